@@ -332,6 +332,11 @@ public final class ForgeEventHandler
             ChunkData.getCapability(event.getChunk()).ifPresent(data -> {
                 ChunkDataCache.SERVER.update(pos, data);
                 ChunkDataCache.WATCH_QUEUE.dequeueLoadedChunk(pos, data);
+                if (event.getWorld() instanceof ServerLevel level && Climate.isClimateOutdated(data))
+                {
+                    // Catch up snow and ice for the current season over the next several ticks
+                    level.getCapability(WorldTrackerCapability.CAPABILITY).ifPresent(cap -> cap.addOutdatedClimateChunk(pos));
+                }
             });
         }
     }
@@ -859,14 +864,31 @@ public final class ForgeEventHandler
     {
         // Sync managers
         final ServerPlayer player = event.getPlayer();
-        final PacketDistributor.PacketTarget target = player == null ? PacketDistributor.ALL.noArg() : PacketDistributor.PLAYER.with(() -> player);
-
-        PacketHandler.send(target, Metal.MANAGER.createSyncPacket());
-        PacketHandler.send(target, Fuel.MANAGER.createSyncPacket());
-        PacketHandler.send(target, Fertilizer.MANAGER.createSyncPacket());
-        PacketHandler.send(target, HeatCapability.MANAGER.createSyncPacket());
-        PacketHandler.send(target, FoodCapability.MANAGER.createSyncPacket());
-        PacketHandler.send(target, ItemSizeManager.MANAGER.createSyncPacket());
+        if (player == null)
+        {
+            // Tags have been bound by now, so block state lookups can be resolved against them
+            CacheInvalidationListener.INSTANCE.invalidateBlockStateCaches(event.getPlayerList().getServer());
+
+            // A reload, all connected players have the previous generation, so only the changes need to be sent
+            final PacketDistributor.PacketTarget target = PacketDistributor.ALL.noArg();
+            PacketHandler.send(target, Metal.MANAGER.createDeltaSyncPacket());
+            PacketHandler.send(target, Fuel.MANAGER.createDeltaSyncPacket());
+            PacketHandler.send(target, Fertilizer.MANAGER.createDeltaSyncPacket());
+            PacketHandler.send(target, HeatCapability.MANAGER.createDeltaSyncPacket());
+            PacketHandler.send(target, FoodCapability.MANAGER.createDeltaSyncPacket());
+            PacketHandler.send(target, ItemSizeManager.MANAGER.createDeltaSyncPacket());
+        }
+        else
+        {
+            // A player joining, which needs everything
+            final PacketDistributor.PacketTarget target = PacketDistributor.PLAYER.with(() -> player);
+            PacketHandler.send(target, Metal.MANAGER.createSyncPacket());
+            PacketHandler.send(target, Fuel.MANAGER.createSyncPacket());
+            PacketHandler.send(target, Fertilizer.MANAGER.createSyncPacket());
+            PacketHandler.send(target, HeatCapability.MANAGER.createSyncPacket());
+            PacketHandler.send(target, FoodCapability.MANAGER.createSyncPacket());
+            PacketHandler.send(target, ItemSizeManager.MANAGER.createSyncPacket());
+        }
     }
 
     /**
@@ -11,17 +11,11 @@ import net.dries007.tfc.util.calendar.Calendar;
 public class ClientCalendar extends Calendar
 {
     /**
-     * Called on client ticks. This does a soft simulation of the server and world tracking. It is soft because it is re-synced to the server values every second, so this is purely a measure to keep the client timers counting with more granularity than one second, without requiring the calendar to sync every tick (as that gets messy)
+     * Called on client ticks. This extrapolates the server and world tracking, which is exact as long as the calendar state doesn't change. The server only syncs the calendar when the state changes (sleeping, time commands, players logging in or out), and infrequently in order to correct any drift due to server lag.
      */
     void onClientTick()
     {
-        if (arePlayersLoggedOn)
-        {
-            playerTicks++;
-            if (doDaylightCycle)
-            {
-                calendarTicks++;
-            }
-        }
+        advancePlayerTicks();
+        advanceCalendarTicks();
     }
 }
\ No newline at end of file
@@ -6,6 +6,9 @@
 
 package net.dries007.tfc.common.blockentities;
 
+import java.util.Collections;
+import java.util.List;
+
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.NonNullList;
 import net.minecraft.nbt.CompoundTag;
@@ -21,11 +24,15 @@ import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.block.entity.BlockEntityType;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraftforge.common.util.INBTSerializable;
+import net.minecraftforge.items.IItemHandler;
 import net.minecraftforge.items.IItemHandlerModifiable;
 
 import net.dries007.tfc.common.TFCTags;
 import net.dries007.tfc.common.blocks.devices.FirepitBlock;
+import net.dries007.tfc.common.capabilities.heat.DeviceHeatModel;
 import net.dries007.tfc.common.capabilities.heat.HeatCapability;
+import net.dries007.tfc.common.capabilities.heat.IHeat;
+import net.dries007.tfc.config.TFCConfig;
 import net.dries007.tfc.util.Fuel;
 import net.dries007.tfc.util.Helpers;
 import net.dries007.tfc.util.IntArrayBuilder;
@@ -151,22 +158,59 @@ public abstract class AbstractFirepitBlockEntity<C extends IItemHandlerModifiabl
         updateCachedRecipe();
     }
 
+    @Override
+    public void onLoad()
+    {
+        super.onLoad();
+        if (!getBlockState().getValue(FirepitBlock.LIT))
+        {
+            registerCalendarTickable();
+        }
+    }
+
+    @Override
+    public void setRemoved()
+    {
+        super.setRemoved();
+        unregisterCalendarTickable();
+    }
+
+    @Override
+    public void markForSync()
+    {
+        super.markForSync();
+        if (!getBlockState().getValue(FirepitBlock.LIT))
+        {
+            checkForLastTickSync(); // Unlit firepits don't tick, so sync now
+        }
+    }
+
     @Override
     public void onCalendarUpdate(long ticks)
     {
         assert level != null;
-        if (level.getBlockState(worldPosition).getValue(FirepitBlock.LIT))
-        {
-            final HeatCapability.Remainder remainder = HeatCapability.consumeFuelForTicks(ticks, inventory, burnTicks, burnTemperature, SLOT_FUEL_CONSUME, SLOT_FUEL_INPUT);
+        updateForTicks(ticks, level.getBlockState(worldPosition).getValue(FirepitBlock.LIT));
+    }
 
-            burnTicks = remainder.burnTicks();
-            burnTemperature = remainder.burnTemperature();
-            needsSlotUpdate = true;
-            if (remainder.ticks() > 0) // Consumed all fuel, so extinguish and cool instantly
+    /**
+     * Called when the firepit is lit or put out. Unlit firepits do not tick (see {@link FirepitBlock#getTicker}), and are instead caught up by the world tracker when loaded and when the calendar skips.
+     */
+    public void onLitChanged(boolean lit)
+    {
+        if (lit)
+        {
+            // Catch up the time spent unlit, up to the previous tick, so ticking resumes from here
+            final long lastTick = Calendars.SERVER.getTicks() - 1;
+            if (lastTick > lastPlayerTick)
             {
-                extinguish(level.getBlockState(worldPosition));
-                coolInstantly();
+                updateForTicks(lastTick - lastPlayerTick, false);
+                lastPlayerTick = lastTick;
             }
+            unregisterCalendarTickable();
+        }
+        else
+        {
+            registerCalendarTickable();
         }
     }
 
@@ -195,6 +239,35 @@ public abstract class AbstractFirepitBlockEntity<C extends IItemHandlerModifiabl
         }
     }
 
+    /**
+     * Advances the firepit by {@code ticks}, as if it was lit or unlit for that time.
+     */
+    protected void updateForTicks(long ticks, boolean lit)
+    {
+        assert level != null;
+        final DeviceHeatModel model = new DeviceHeatModel(temperature, TFCConfig.SERVER.heatingModifier.get().floatValue(), true);
+        final List<IHeat> heatedItems = addHeatedItems(model, ticks);
+        if (lit)
+        {
+            final HeatCapability.Remainder remainder = HeatCapability.consumeFuelForTicks(model, ticks, inventory, burnTicks, burnTemperature, SLOT_FUEL_CONSUME, SLOT_FUEL_INPUT, level.isRainingAt(worldPosition));
+
+            burnTicks = remainder.burnTicks();
+            burnTemperature = remainder.burnTemperature();
+            needsSlotUpdate = true;
+            if (remainder.ticks() > 0) // Consumed all fuel, so extinguish
+            {
+                extinguish(level.getBlockState(worldPosition));
+            }
+        }
+        else
+        {
+            model.advance(ticks, 0);
+        }
+        airTicks = (int) Math.max(0, airTicks - ticks);
+        temperature = model.getTemperature();
+        HeatCapability.setItemTemperatures(model, heatedItems);
+    }
+
     /**
      * Attempts to light the firepit. Use over just setting the block state to LIT = true, as if there is no fuel, that will light the firepit for one tick which looks strange
      *
@@ -231,6 +304,7 @@ public abstract class AbstractFirepitBlockEntity<C extends IItemHandlerModifiabl
         airTicks = other.airTicks;
         burnTemperature = other.burnTemperature;
         temperature = other.temperature;
+        lastPlayerTick = other.lastPlayerTick;
 
         needsSlotUpdate = true;
     }
@@ -287,9 +361,12 @@ public abstract class AbstractFirepitBlockEntity<C extends IItemHandlerModifiabl
     protected abstract void handleCooking();
 
     /**
-     * Cools all contents of the firepit instantly.
+     * Adds any items heated by the firepit to the model used when catching up, see {@link HeatCapability#addItemsToModel(DeviceHeatModel, IItemHandler, int, int, long)}
      */
-    protected abstract void coolInstantly();
+    protected List<IHeat> addHeatedItems(DeviceHeatModel model, long ticks)
+    {
+        return Collections.emptyList();
+    }
 
     /**
      * Updates cached recipes due to an inventory or other change.
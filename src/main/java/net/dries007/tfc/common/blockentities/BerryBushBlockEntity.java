@@ -8,7 +8,6 @@ package net.dries007.tfc.common.blockentities;
 
 import net.minecraft.core.BlockPos;
 import net.minecraft.nbt.CompoundTag;
-import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.entity.BlockEntityType;
 import net.minecraft.world.level.block.state.BlockState;
 
@@ -20,11 +19,6 @@ import net.dries007.tfc.util.calendar.ICalendarTickable;
 // todo: don't extend tick counter anymore
 public class BerryBushBlockEntity extends TickCounterBlockEntity implements ICalendarTickable
 {
-    public static void serverTick(Level level, BlockPos pos, BlockState state, BerryBushBlockEntity bush)
-    {
-        bush.checkForCalendarUpdate();
-    }
-
     // todo: old
     private boolean isGrowing;
     private boolean harvested;
@@ -48,6 +42,23 @@ public class BerryBushBlockEntity extends TickCounterBlockEntity implements ICal
         lastTick = lastUpdateTick = Calendars.SERVER.getTicks();
     }
 
+    @Override
+    public void onLoad()
+    {
+        super.onLoad();
+        if (getBlockState().getBlock() instanceof IBushBlock)
+        {
+            registerCalendarTickable();
+        }
+    }
+
+    @Override
+    public void setRemoved()
+    {
+        super.setRemoved();
+        unregisterCalendarTickable();
+    }
+
     public void afterUpdate()
     {
         lastUpdateTick = Calendars.SERVER.getTicks();
@@ -7,6 +7,7 @@
 package net.dries007.tfc.common.blockentities;
 
 import java.util.Arrays;
+import java.util.List;
 import javax.annotation.Nullable;
 
 import net.minecraft.core.BlockPos;
@@ -33,9 +34,12 @@ import net.dries007.tfc.common.blocks.TFCBlocks;
 import net.dries007.tfc.common.blocks.devices.CharcoalForgeBlock;
 import net.dries007.tfc.common.capabilities.food.FoodCapability;
 import net.dries007.tfc.common.capabilities.food.FoodTraits;
+import net.dries007.tfc.common.capabilities.heat.DeviceHeatModel;
 import net.dries007.tfc.common.capabilities.heat.Heat;
 import net.dries007.tfc.common.capabilities.heat.HeatCapability;
+import net.dries007.tfc.common.capabilities.heat.IHeat;
 import net.dries007.tfc.common.container.CharcoalForgeContainer;
+import net.dries007.tfc.config.TFCConfig;
 import net.dries007.tfc.common.recipes.HeatingRecipe;
 import net.dries007.tfc.common.recipes.inventory.ItemStackInventory;
 import net.dries007.tfc.util.Fuel;
@@ -100,16 +104,12 @@ public class CharcoalForgeBlockEntity extends TickableInventoryBlockEntity<ItemS
                 forge.extinguish(state);
             }
         }
-        else if (forge.burnTemperature > 0)
-        {
-            forge.extinguish(state);
-        }
         if (forge.airTicks > 0)
         {
             forge.airTicks--;
         }
 
-        // Always update temperature / cooking, until the fire pit is not hot anymore
+        // Update temperature / cooking while lit. Once put out, the forge stops ticking and cools via onCalendarUpdate()
         if (forge.temperature > 0 || forge.burnTemperature > 0)
         {
             forge.temperature = HeatCapability.adjustDeviceTemp(forge.temperature, forge.burnTemperature, forge.airTicks, isRaining);
@@ -181,28 +181,61 @@ public class CharcoalForgeBlockEntity extends TickableInventoryBlockEntity<ItemS
     }
 
     @Override
-    public void onCalendarUpdate(long ticks)
+    public void onLoad()
     {
-        assert level != null;
-        final BlockState state = level.getBlockState(worldPosition);
-        if (state.getValue(CharcoalForgeBlock.HEAT) != 0)
+        super.onLoad();
+        if (getBlockState().getValue(CharcoalForgeBlock.HEAT) == 0)
         {
-            HeatCapability.Remainder remainder = HeatCapability.consumeFuelForTicks(ticks, inventory, burnTicks, burnTemperature, SLOT_FUEL_MIN, SLOT_FUEL_MAX);
+            registerCalendarTickable();
+        }
+    }
 
-            burnTicks = remainder.burnTicks();
-            burnTemperature = remainder.burnTemperature();
-            needsSlotUpdate = true;
+    @Override
+    public void setRemoved()
+    {
+        super.setRemoved();
+        unregisterCalendarTickable();
+    }
 
-            if (remainder.ticks() > 0)
+    @Override
+    public void markForSync()
+    {
+        super.markForSync();
+        if (getBlockState().getValue(CharcoalForgeBlock.HEAT) == 0)
+        {
+            checkForLastTickSync(); // Unlit forges don't tick, so sync now
+        }
+    }
+
+    @Override
+    public void onCalendarUpdate(long ticks)
+    {
+        assert level != null;
+        updateForTicks(ticks, level.getBlockState(worldPosition).getValue(CharcoalForgeBlock.HEAT) != 0);
+    }
+
+    /**
+     * Called when the forge is lit or put out. Unlit forges do not tick (see {@link CharcoalForgeBlock#getTicker}), and are instead caught up by the world tracker when loaded and when the calendar skips.
+     */
+    public void onLitChanged(boolean lit)
+    {
+        if (lit)
+        {
+            // Catch up the time spent unlit, up to the previous tick, so ticking resumes from here
+            final long lastTick = Calendars.SERVER.getTicks() - 1;
+            if (lastTick > lastPlayerTick)
             {
-                // Consumed all fuel, so extinguish and cool instantly
-                extinguish(state);
-                for (int i = SLOT_INPUT_MIN; i <= SLOT_INPUT_MAX; i++)
-                {
-                    ItemStack stack = inventory.getStackInSlot(i);
-                    stack.getCapability(HeatCapability.CAPABILITY).ifPresent(cap -> cap.setTemperature(0f));
-                }
+                updateForTicks(lastTick - lastPlayerTick, false);
+                lastPlayerTick = lastTick;
             }
+            unregisterCalendarTickable();
+        }
+        else
+        {
+            // The forge may be put out by the block state changing, rather than extinguish()
+            burnTicks = 0;
+            burnTemperature = 0;
+            registerCalendarTickable();
         }
     }
 
@@ -223,6 +256,37 @@ public class CharcoalForgeBlockEntity extends TickableInventoryBlockEntity<ItemS
         return syncableData;
     }
 
+    /**
+     * Advances the forge by {@code ticks}, as if it was lit or unlit for that time.
+     */
+    private void updateForTicks(long ticks, boolean lit)
+    {
+        assert level != null;
+        final DeviceHeatModel model = new DeviceHeatModel(temperature, TFCConfig.SERVER.heatingModifier.get().floatValue(), false);
+        final List<IHeat> heatedItems = HeatCapability.addItemsToModel(model, inventory, SLOT_INPUT_MIN, SLOT_INPUT_MAX, ticks);
+        if (lit)
+        {
+            final HeatCapability.Remainder remainder = HeatCapability.consumeFuelForTicks(model, ticks, inventory, burnTicks, burnTemperature, SLOT_FUEL_MIN, SLOT_FUEL_MAX, level.isRainingAt(worldPosition));
+
+            burnTicks = remainder.burnTicks();
+            burnTemperature = remainder.burnTemperature();
+            needsSlotUpdate = true;
+
+            if (remainder.ticks() > 0)
+            {
+                // Consumed all fuel, so extinguish
+                extinguish(level.getBlockState(worldPosition));
+            }
+        }
+        else
+        {
+            model.advance(ticks, 0);
+        }
+        airTicks = (int) Math.max(0, airTicks - ticks);
+        temperature = model.getTemperature();
+        HeatCapability.setItemTemperatures(model, heatedItems);
+    }
+
     public void onFirstCreation()
     {
         burnTicks = 200;
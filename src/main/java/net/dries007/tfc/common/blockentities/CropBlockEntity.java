@@ -8,7 +8,6 @@ package net.dries007.tfc.common.blockentities;
 
 import net.minecraft.core.BlockPos;
 import net.minecraft.nbt.CompoundTag;
-import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.entity.BlockEntityType;
 import net.minecraft.world.level.block.state.BlockState;
 
@@ -18,19 +17,6 @@ import net.dries007.tfc.util.calendar.ICalendarTickable;
 
 public class CropBlockEntity extends TickCounterBlockEntity implements ICalendarTickable
 {
-    public static void serverTick(Level level, BlockPos pos, BlockState state, CropBlockEntity crop)
-    {
-        crop.checkForCalendarUpdate();
-    }
-
-    public static void serverTickBottomPartOnly(Level level, BlockPos pos, BlockState state, CropBlockEntity crop)
-    {
-        if (state.getValue(DoubleCropBlock.PART) == DoubleCropBlock.Part.BOTTOM)
-        {
-            crop.checkForCalendarUpdate();
-        }
-    }
-
     private float growth;
     private float yield;
     private float expiry;
@@ -45,6 +31,24 @@ public class CropBlockEntity extends TickCounterBlockEntity implements ICalendar
         super(type, pos, state);
     }
 
+    @Override
+    public void onLoad()
+    {
+        super.onLoad();
+        final BlockState state = getBlockState();
+        if (!state.hasProperty(DoubleCropBlock.PART) || state.getValue(DoubleCropBlock.PART) == DoubleCropBlock.Part.BOTTOM)
+        {
+            registerCalendarTickable();
+        }
+    }
+
+    @Override
+    public void setRemoved()
+    {
+        super.setRemoved();
+        unregisterCalendarTickable();
+    }
+
     @Override
     public void onCalendarUpdate(long ticks)
     {
@@ -71,22 +75,34 @@ public class CropBlockEntity extends TickCounterBlockEntity implements ICalendar
         return expiry;
     }
 
+    /**
+     * Growth and yield are shown to the client (via the hoe overlay), so changes to them are synced. Expiry is only needed on server, so it is only saved.
+     */
     public void setGrowth(float growth)
     {
-        this.growth = growth;
-        markForSync();
+        if (this.growth != growth)
+        {
+            this.growth = growth;
+            markForSync();
+        }
     }
 
     public void setYield(float yield)
     {
-        this.yield = yield;
-        markForSync();
+        if (this.yield != yield)
+        {
+            this.yield = yield;
+            markForSync();
+        }
     }
 
     public void setExpiry(float expiry)
     {
-        this.expiry = expiry;
-        markForSync();
+        if (this.expiry != expiry)
+        {
+            this.expiry = expiry;
+            setChanged();
+        }
     }
 
     @Override
@@ -95,11 +111,17 @@ public class CropBlockEntity extends TickCounterBlockEntity implements ICalendar
         return lastUpdateTick;
     }
 
+    /**
+     * This is the baseline for the next growth tick, so it must be saved, but does not need to be synced to the client.
+     */
     @Override
     public void setLastUpdateTick(long tick)
     {
-        lastUpdateTick = tick;
-        markForSync();
+        if (lastUpdateTick != tick)
+        {
+            lastUpdateTick = tick;
+            setChanged();
+        }
     }
 
     @Override
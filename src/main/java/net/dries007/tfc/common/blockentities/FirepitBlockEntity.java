@@ -6,6 +6,7 @@
 
 package net.dries007.tfc.common.blockentities;
 
+import java.util.List;
 import javax.annotation.Nullable;
 
 import net.minecraft.core.BlockPos;
@@ -20,7 +21,9 @@ import net.minecraft.world.level.block.state.BlockState;
 import net.minecraftforge.fluids.FluidStack;
 import net.minecraftforge.items.ItemStackHandler;
 
+import net.dries007.tfc.common.capabilities.heat.DeviceHeatModel;
 import net.dries007.tfc.common.capabilities.heat.HeatCapability;
+import net.dries007.tfc.common.capabilities.heat.IHeat;
 import net.dries007.tfc.common.container.FirepitContainer;
 import net.dries007.tfc.common.recipes.HeatingRecipe;
 import net.dries007.tfc.common.recipes.inventory.ItemStackInventory;
@@ -77,9 +80,9 @@ public class FirepitBlockEntity extends AbstractFirepitBlockEntity<ItemStackHand
     }
 
     @Override
-    protected void coolInstantly()
+    protected List<IHeat> addHeatedItems(DeviceHeatModel model, long ticks)
     {
-        inventory.getStackInSlot(SLOT_ITEM_INPUT).getCapability(HeatCapability.CAPABILITY).ifPresent(cap -> cap.setTemperature(0f));
+        return HeatCapability.addItemsToModel(model, inventory, SLOT_ITEM_INPUT, SLOT_ITEM_INPUT, ticks);
     }
 
     @Override
@@ -6,6 +6,7 @@
 
 package net.dries007.tfc.common.blockentities;
 
+import java.util.List;
 import javax.annotation.Nullable;
 
 import net.minecraft.core.BlockPos;
@@ -22,12 +23,13 @@ import net.minecraftforge.items.ItemStackHandler;
 import net.dries007.tfc.common.capabilities.PartialItemHandler;
 import net.dries007.tfc.common.capabilities.food.FoodCapability;
 import net.dries007.tfc.common.capabilities.food.FoodTraits;
+import net.dries007.tfc.common.capabilities.heat.DeviceHeatModel;
 import net.dries007.tfc.common.capabilities.heat.HeatCapability;
+import net.dries007.tfc.common.capabilities.heat.IHeat;
 import net.dries007.tfc.common.container.GrillContainer;
 import net.dries007.tfc.common.recipes.HeatingRecipe;
 import net.dries007.tfc.common.recipes.inventory.ItemStackInventory;
 import net.dries007.tfc.util.Fuel;
-import net.dries007.tfc.util.Helpers;
 
 import static net.dries007.tfc.TerraFirmaCraft.MOD_ID;
 
@@ -95,12 +97,9 @@ public class GrillBlockEntity extends AbstractFirepitBlockEntity<ItemStackHandle
     }
 
     @Override
-    protected void coolInstantly()
+    protected List<IHeat> addHeatedItems(DeviceHeatModel model, long ticks)
     {
-        for (ItemStack stack : Helpers.iterate(inventory))
-        {
-            stack.getCapability(HeatCapability.CAPABILITY).ifPresent(cap -> cap.setTemperature(0));
-        }
+        return HeatCapability.addItemsToModel(model, inventory, SLOT_EXTRA_INPUT_START, SLOT_EXTRA_INPUT_END, ticks);
     }
 
     @Override
@@ -151,12 +151,6 @@ public class PotBlockEntity extends AbstractFirepitBlockEntity<PotBlockEntity.Po
         }
     }
 
-    @Override
-    protected void coolInstantly()
-    {
-        boilingTicks = 0;
-    }
-
     @Override
     protected void updateCachedRecipe()
     {
@@ -48,21 +48,32 @@ public final class CropHelpers
     public static final float YIELD_LIMIT = 1f;
 
     /**
+     * Grows the crop over all the time since its last update. Crops do not tick, so their last update tick is only moved by growth, and this covers the full time since the previous growth tick (random or calendar).
+     *
      * @return {@code true} if the crop survived.
      */
     public static boolean growthTick(Level level, BlockPos pos, BlockState state, CropBlockEntity crop)
     {
-        final long firstTick = crop.getLastUpdateTick(), thisTick = Calendars.SERVER.getTicks();
+        return growthTickIntervals(crop.getLastUpdateTick(), Calendars.SERVER.getTicks(), (fromTick, toTick) -> growthTickStep(level, pos, state, level.getRandom(), fromTick, toTick, crop));
+    }
+
+    /**
+     * Splits the time from {@code firstTick} to {@code thisTick} into consecutive intervals of at most {@link #UPDATE_INTERVAL}, stopping early if a step fails.
+     *
+     * @return {@code true} if every step succeeded.
+     */
+    static boolean growthTickIntervals(long firstTick, long thisTick, GrowthStep step)
+    {
         long tick = firstTick + CropHelpers.UPDATE_INTERVAL, lastTick = firstTick;
         for (; tick < thisTick; tick += CropHelpers.UPDATE_INTERVAL)
         {
-            if (!CropHelpers.growthTickStep(level, pos, state, level.getRandom(), lastTick, tick, crop))
+            if (!step.grow(lastTick, tick))
             {
                 return false;
             }
             lastTick = tick;
         }
-        return lastTick >= thisTick || CropHelpers.growthTickStep(level, pos, state, level.getRandom(), lastTick, thisTick, crop);
+        return lastTick >= thisTick || step.grow(lastTick, thisTick);
     }
 
     public static boolean growthTickStep(Level level, BlockPos pos, BlockState state, Random random, long fromTick, long toTick, CropBlockEntity crop)
@@ -184,4 +195,13 @@ public final class CropHelpers
             level.sendParticles(TFCParticles.POTASSIUM.get(), pos.getX() + level.random.nextFloat(), pos.getY() + level.random.nextFloat() / 5D, pos.getZ() + level.random.nextFloat(), 0, 0D, 0D, 0D, 1D);
         }
     }
+
+    @FunctionalInterface
+    interface GrowthStep
+    {
+        /**
+         * @return {@code true} if the crop survived.
+         */
+        boolean grow(long fromTick, long toTick);
+    }
 }
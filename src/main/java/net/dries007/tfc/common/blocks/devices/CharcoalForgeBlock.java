@@ -8,6 +8,7 @@ package net.dries007.tfc.common.blocks.devices;
 
 import java.util.Random;
 import java.util.function.BiPredicate;
+import javax.annotation.Nullable;
 
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
@@ -27,6 +28,9 @@ import net.minecraft.world.level.BlockGetter;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.LevelAccessor;
 import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.entity.BlockEntityTicker;
+import net.minecraft.world.level.block.entity.BlockEntityType;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.block.state.StateDefinition;
 import net.minecraft.world.level.block.state.properties.IntegerProperty;
@@ -123,6 +127,29 @@ public class CharcoalForgeBlock extends DeviceBlock
         super.createBlockStateDefinition(builder.add(HEAT));
     }
 
+    @Nullable
+    @Override
+    public <T extends BlockEntity> BlockEntityTicker<T> getTicker(Level level, BlockState state, BlockEntityType<T> type)
+    {
+        // Unlit forges don't need to tick, they are caught up via the world tracker
+        return state.getValue(HEAT) > 0 ? super.getTicker(level, state, type) : null;
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    public void onPlace(BlockState state, Level level, BlockPos pos, BlockState oldState, boolean isMoving)
+    {
+        super.onPlace(state, level, pos, oldState, isMoving);
+        if (oldState.is(this) && (oldState.getValue(HEAT) > 0) != (state.getValue(HEAT) > 0))
+        {
+            final CharcoalForgeBlockEntity forge = Helpers.getBlockEntity(level, pos, CharcoalForgeBlockEntity.class);
+            if (forge != null)
+            {
+                forge.onLitChanged(state.getValue(HEAT) > 0);
+            }
+        }
+    }
+
     @Override
     @SuppressWarnings("deprecation")
     public BlockState updateShape(BlockState state, Direction facing, BlockState facingState, LevelAccessor world, BlockPos currentPos, BlockPos facingPos)
@@ -139,6 +166,10 @@ public class CharcoalForgeBlock extends DeviceBlock
         {
             if (player instanceof ServerPlayer serverPlayer)
             {
+                if (state.getValue(HEAT) == 0)
+                {
+                    te.catchUpCalendarUpdate();
+                }
                 NetworkHooks.openGui(serverPlayer, te, pos);
             }
             return InteractionResult.SUCCESS;
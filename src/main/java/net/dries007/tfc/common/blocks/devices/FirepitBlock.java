@@ -7,6 +7,7 @@
 package net.dries007.tfc.common.blocks.devices;
 
 import java.util.Random;
+import javax.annotation.Nullable;
 
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
@@ -28,6 +29,9 @@ import net.minecraft.world.level.LevelAccessor;
 import net.minecraft.world.level.LevelReader;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.entity.BlockEntityTicker;
+import net.minecraft.world.level.block.entity.BlockEntityType;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.block.state.StateDefinition;
 import net.minecraft.world.level.block.state.properties.BooleanProperty;
@@ -131,6 +135,29 @@ public class FirepitBlock extends DeviceBlock implements IForgeBlockExtension, E
         builder.add(LIT);
     }
 
+    @Nullable
+    @Override
+    public <T extends BlockEntity> BlockEntityTicker<T> getTicker(Level level, BlockState state, BlockEntityType<T> type)
+    {
+        // Unlit firepits don't need to tick, they are caught up via the world tracker
+        return state.getValue(LIT) ? super.getTicker(level, state, type) : null;
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    public void onPlace(BlockState state, Level level, BlockPos pos, BlockState oldState, boolean isMoving)
+    {
+        super.onPlace(state, level, pos, oldState, isMoving);
+        if (oldState.is(this) && oldState.getValue(LIT) != state.getValue(LIT))
+        {
+            final AbstractFirepitBlockEntity<?> firepit = Helpers.getBlockEntity(level, pos, AbstractFirepitBlockEntity.class);
+            if (firepit != null)
+            {
+                firepit.onLitChanged(state.getValue(LIT));
+            }
+        }
+    }
+
     @Override
     @SuppressWarnings("deprecation")
     public BlockState updateShape(BlockState stateIn, Direction facing, BlockState facingState, LevelAccessor worldIn, BlockPos currentPos, BlockPos facingPos)
@@ -168,6 +195,10 @@ public class FirepitBlock extends DeviceBlock implements IForgeBlockExtension, E
             {
                 if (player instanceof ServerPlayer serverPlayer)
                 {
+                    if (!state.getValue(LIT))
+                    {
+                        firepit.catchUpCalendarUpdate();
+                    }
                     NetworkHooks.openGui(serverPlayer, firepit, pos);
                 }
                 return InteractionResult.SUCCESS;
@@ -113,6 +113,10 @@ public class GrillBlock extends FirepitBlock
             {
                 if (player instanceof ServerPlayer serverPlayer)
                 {
+                    if (!state.getValue(LIT))
+                    {
+                        firepit.catchUpCalendarUpdate();
+                    }
                     NetworkHooks.openGui(serverPlayer, firepit, pos);
                 }
                 return InteractionResult.SUCCESS;
@@ -127,6 +127,10 @@ public class PotBlock extends FirepitBlock
 
                 if (player instanceof ServerPlayer serverPlayer)
                 {
+                    if (!state.getValue(LIT))
+                    {
+                        firepit.catchUpCalendarUpdate();
+                    }
                     NetworkHooks.openGui(serverPlayer, firepit, pos);
                 }
                 return InteractionResult.SUCCESS;
@@ -0,0 +1,87 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.common.blocks.plant.fruit;
+
+import java.util.Random;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+
+/**
+ * Month-by-month simulation of a seasonal bush, used to catch up a bush over a long period of time in a single update.
+ * The lifecycle progression is deterministic given the conditions of each month, so it is evaluated first, and the random stage growth is then sampled in a single draw.
+ */
+public final class BushGrowth
+{
+    /**
+     * The chance, each month the bush is active, that it will grow a stage.
+     */
+    public static final float STAGE_GROWTH_CHANCE = 1 / 3f;
+
+    /**
+     * @param startLifecycle    The lifecycle of the bush at the start of the simulation
+     * @param months            The number of months to simulate, at least one
+     * @param expectedLifecycle The lifecycle the bush should have at the end of each month, by month index
+     * @param validConditions   If the conditions (hydration, temperature) at the end of each month, by month index, are valid for the bush. This is only queried once per month, in order.
+     * @param maxStagesGrown    The maximum number of stages the bush is able to grow
+     */
+    public static Result simulate(Lifecycle startLifecycle, int months, IntFunction<Lifecycle> expectedLifecycle, IntPredicate validConditions, int maxStagesGrown, Random random)
+    {
+        Lifecycle lifecycle = startLifecycle;
+        int activeMonths = 0, monthsSpentDying = 0;
+        for (int month = 0; month < months; month++)
+        {
+            // Advance the lifecycle if the at-the-time conditions were valid, and the stage (randomly, if the previous month was healthy)
+            if (lifecycle.active())
+            {
+                activeMonths++;
+            }
+
+            final Lifecycle expected = expectedLifecycle.apply(month);
+            lifecycle = validConditions.test(month) ? lifecycle.advanceTowards(expected) : Lifecycle.DORMANT;
+
+            if (expected != Lifecycle.DORMANT && lifecycle == Lifecycle.DORMANT)
+            {
+                monthsSpentDying++; // consecutive months spent where the conditions were invalid, but they shouldn't've been
+            }
+            else
+            {
+                monthsSpentDying = 0;
+            }
+        }
+        return new Result(sampleStagesGrown(activeMonths, maxStagesGrown, random), lifecycle, monthsSpentDying);
+    }
+
+    /**
+     * Samples the number of stages grown over a number of active months, where each month has an independent {@link #STAGE_GROWTH_CHANCE} of growing a stage, capped at {@code maxStagesGrown}.
+     * This is equivalent to a draw from a binomial distribution clamped to {@code [0, maxStagesGrown]}, using at most one random number.
+     */
+    public static int sampleStagesGrown(int activeMonths, int maxStagesGrown, Random random)
+    {
+        if (activeMonths <= 0 || maxStagesGrown <= 0)
+        {
+            return 0;
+        }
+
+        final double p = STAGE_GROWTH_CHANCE, q = 1 - p;
+        final double value = random.nextDouble();
+
+        // Walk the cumulative distribution function, P(X = k) = C(n, k) p^k q^(n - k)
+        double probability = Math.pow(q, activeMonths), cumulative = probability;
+        int stages = 0;
+        while (stages < maxStagesGrown && stages < activeMonths && value >= cumulative)
+        {
+            probability *= (double) (activeMonths - stages) / (stages + 1) * p / q;
+            cumulative += probability;
+            stages++;
+        }
+        return stages;
+    }
+
+    public record Result(int stagesGrown, Lifecycle lifecycle, int monthsSpentDying) {}
+
+    private BushGrowth() {}
+}
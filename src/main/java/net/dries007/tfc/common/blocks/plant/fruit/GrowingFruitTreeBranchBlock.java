@@ -29,6 +29,7 @@ import net.dries007.tfc.common.blocks.ExtendedProperties;
 import net.dries007.tfc.common.blocks.TFCBlockStateProperties;
 import net.dries007.tfc.util.Helpers;
 import net.dries007.tfc.util.calendar.ICalendar;
+import net.dries007.tfc.util.tracker.WorldTrackerCapability;
 
 /**
  * If I had my way, everything in this mod would be chorus fruit.
@@ -145,8 +146,9 @@ public class GrowingFruitTreeBranchBlock extends FruitTreeBranchBlock implements
 
                 if (willGrowUpward && allNeighborsEmpty(world, abovePos, null) && canGrowInto(world, pos.above(2)))
                 {
-                    placeBody(world, pos, stage);
+                    // Place the new branch before the body, so the body connects to it, and the body's neighbor update reaches it
                     placeGrownFlower(world, abovePos, stage, state.getValue(SAPLINGS), cyclesLeft - 1);
+                    placeBody(world, pos, stage);
                 }
                 else if (stage < 2)
                 {
@@ -194,21 +196,30 @@ public class GrowingFruitTreeBranchBlock extends FruitTreeBranchBlock implements
     public void tick(BlockState state, ServerLevel world, BlockPos pos, Random rand)
     {
         super.tick(state, world, pos, rand);
+        growFromElapsedTime(world.getBlockState(pos), world, pos, rand);
+    }
+
+    /**
+     * Grows this branch by the number of growth cycles elapsed since it was last grown, if it is still able to survive.
+     */
+    public void growFromElapsedTime(BlockState state, ServerLevel world, BlockPos pos, Random random)
+    {
         TickCounterBlockEntity te = Helpers.getBlockEntity(world, pos, TickCounterBlockEntity.class);
-        if (te == null || world.isEmptyBlock(pos) || world.isClientSide()) return;
+        if (te == null || state.getBlock() != this || !state.canSurvive(world, pos)) return;
 
         long days = te.getTicksSinceUpdate() / ICalendar.TICKS_IN_DAY;
         int cycles = (int) (days / 5);
         if (cycles >= 1)
         {
-            grow(state, world, pos, rand, cycles);
+            grow(state, world, pos, random, cycles);
             te.resetCounter();
         }
     }
 
     private void placeGrownFlower(ServerLevel worldIn, BlockPos pos, int stage, int saplings, int cycles)
     {
-        worldIn.setBlock(pos, getStateForPlacement(worldIn, pos).setValue(STAGE, stage).setValue(SAPLINGS, saplings), 3);
+        // Neighbors are only notified once the parent branch is replaced by placeBody(), which is always called after this, as the only non-leaf neighbor is the parent
+        worldIn.setBlock(pos, getStateForPlacement(worldIn, pos).setValue(STAGE, stage).setValue(SAPLINGS, saplings), Block.UPDATE_CLIENTS);
         TickCounterBlockEntity te = Helpers.getBlockEntity(worldIn, pos, TickCounterBlockEntity.class);
         if (te != null)
         {
@@ -216,7 +227,12 @@ public class GrowingFruitTreeBranchBlock extends FruitTreeBranchBlock implements
             te.reduceCounter(-1L * ICalendar.TICKS_IN_DAY * cycles * 5);
         }
         addLeaves(worldIn, pos);
-        worldIn.getBlockState(pos).randomTick(worldIn, pos, worldIn.random);
+
+        // Rather than growing the new branch immediately, which recursively grows the whole tree in a single tick, queue it to grow with a per-tick budget
+        if (cycles > 0)
+        {
+            worldIn.getCapability(WorldTrackerCapability.CAPABILITY).ifPresent(cap -> cap.addFruitTreeGrowth(pos.immutable()));
+        }
     }
 
     private void placeBody(LevelAccessor worldIn, BlockPos pos, int stage)
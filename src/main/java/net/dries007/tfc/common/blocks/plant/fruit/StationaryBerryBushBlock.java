@@ -151,50 +151,25 @@ public class StationaryBerryBushBlock extends SeasonalPlantBlock implements HoeO
             {
                 // Otherwise, we do a month-by-month evaluation of how the bush should have grown.
                 // We only do this up to a year. Why? Because eventually, it will have become dormant, and any 'progress' during that year would've been lost anyway because it would unconditionally become dormant.
-                long deltaTicks = Math.min(bush.getTicksSinceBushUpdate(), Calendars.SERVER.getCalendarTicksInYear());
-                long currentCalendarTick = Calendars.SERVER.getCalendarTicks();
-                long nextCalendarTick = currentCalendarTick - deltaTicks;
-
-                final BlockPos sourcePos = pos.below();
+                // This always evaluates at least one month. It is called through random ticks, and calendar updates - although calendar updates will only call this if they've waited at least a day, or the average delta between random ticks.
+                final long deltaTicks = Math.min(bush.getTicksSinceBushUpdate(), Calendars.SERVER.getCalendarTicksInYear());
+                final long currentCalendarTick = Calendars.SERVER.getCalendarTicks();
+                final long startCalendarTick = currentCalendarTick - deltaTicks;
+                final long ticksInMonth = Calendars.SERVER.getCalendarTicksInMonth();
+                final int daysInMonth = Calendars.SERVER.getCalendarDaysInMonth();
+                final int months = (int) Math.max(1, (deltaTicks + ticksInMonth - 1) / ticksInMonth);
+
+                // Hydration is constant over the update, so if it is out of range, there's no need to query the temperature at all
                 final ClimateRange range = climateRange.get();
-                final int hydration = FarmlandBlock.getHydration(level, sourcePos);
-
-                int stagesGrown = 0, monthsSpentDying = 0;
-                do
-                {
-                    // This always runs at least once. It is called through random ticks, and calendar updates - although calendar updates will only call this if they've waited at least a day, or the average delta between random ticks.
-                    // Otherwise it will just wait for the next random tick.
+                final boolean validHydration = range.checkHydration(FarmlandBlock.getHydration(level, pos.below()), false) == ClimateRange.Result.VALID;
 
-                    // Jump forward to nextTick.
-                    // Advance both the stage (randomly, if the previous month was healthy), and lifecycle (if the at-the-time conditions were valid)
-                    nextCalendarTick = Math.min(nextCalendarTick + Calendars.SERVER.getCalendarTicksInMonth(), currentCalendarTick);
-
-                    if (currentLifecycle.active() && level.getRandom().nextInt(3) == 0)
-                    {
-                        stagesGrown++;
-                    }
+                final BushGrowth.Result result = BushGrowth.simulate(currentLifecycle, months,
+                    month -> getLifecycleForMonth(ICalendar.getMonthOfYear(calendarTickAtEndOfMonth(startCalendarTick, currentCalendarTick, ticksInMonth, month), daysInMonth)),
+                    month -> validHydration && range.checkTemperature(Climate.getTemperature(level, pos, calendarTickAtEndOfMonth(startCalendarTick, currentCalendarTick, ticksInMonth, month), daysInMonth), false) == ClimateRange.Result.VALID,
+                    2 - state.getValue(STAGE), level.getRandom());
 
-                    float temperatureAtNextTick = Climate.getTemperature(level, pos, nextCalendarTick, Calendars.SERVER.getCalendarDaysInMonth());
-                    Lifecycle lifecycleAtNextTick = getLifecycleForMonth(ICalendar.getMonthOfYear(nextCalendarTick, Calendars.SERVER.getCalendarDaysInMonth()));
-                    if (range.checkBoth(hydration, temperatureAtNextTick, false))
-                    {
-                        currentLifecycle = currentLifecycle.advanceTowards(lifecycleAtNextTick);
-                    }
-                    else
-                    {
-                        currentLifecycle = Lifecycle.DORMANT;
-                    }
-
-                    if (lifecycleAtNextTick != Lifecycle.DORMANT && currentLifecycle == Lifecycle.DORMANT)
-                    {
-                        monthsSpentDying++; // consecutive months spent where the conditions were invalid, but they shouldn't've been
-                    }
-                    else
-                    {
-                        monthsSpentDying = 0;
-                    }
-
-                } while (nextCalendarTick < currentCalendarTick);
+                final int stagesGrown = result.stagesGrown(), monthsSpentDying = result.monthsSpentDying();
+                currentLifecycle = result.lifecycle();
 
                 BlockState newState;
 
@@ -226,6 +201,11 @@ public class StationaryBerryBushBlock extends SeasonalPlantBlock implements HoeO
         });
     }
 
+    private static long calendarTickAtEndOfMonth(long startCalendarTick, long currentCalendarTick, long ticksInMonth, int month)
+    {
+        return Math.min(startCalendarTick + (month + 1) * ticksInMonth, currentCalendarTick);
+    }
+
     protected BlockState getNewState(Level level, BlockPos pos)
     {
         return defaultBlockState().setValue(STAGE, 0).setValue(LIFECYCLE, Lifecycle.HEALTHY);
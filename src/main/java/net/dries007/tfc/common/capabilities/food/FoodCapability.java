@@ -9,7 +9,6 @@ package net.dries007.tfc.common.capabilities.food;
 import javax.annotation.Nullable;
 
 import net.minecraft.resources.ResourceLocation;
-import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 import net.minecraftforge.common.capabilities.Capability;
 import net.minecraftforge.common.capabilities.CapabilityManager;
@@ -24,26 +23,19 @@ import net.dries007.tfc.util.DataManager;
 import net.dries007.tfc.util.Helpers;
 import net.dries007.tfc.util.calendar.Calendars;
 import net.dries007.tfc.util.calendar.ICalendar;
-import net.dries007.tfc.util.collections.IndirectHashCollection;
+import net.dries007.tfc.util.collections.ItemDefinitionCache;
 
 public final class FoodCapability
 {
     public static final Capability<IFood> CAPABILITY = CapabilityManager.get(new CapabilityToken<>() {});
     public static final ResourceLocation KEY = Helpers.identifier("food");
-    public static final IndirectHashCollection<Item, FoodDefinition> CACHE = new IndirectHashCollection<>(FoodDefinition::getValidItems);
+    public static final ItemDefinitionCache<FoodDefinition> CACHE = new ItemDefinitionCache<>();
     public static final DataManager<FoodDefinition> MANAGER = new DataManager<>("food_items", "food", FoodDefinition::new, FoodCapability::reload, FoodDefinition::new, FoodDefinition::encode, DataManagerSyncPacket.TFoodDefinition::new);
 
     @Nullable
     public static FoodDefinition get(ItemStack stack)
     {
-        for (FoodDefinition def : CACHE.getAll(stack.getItem()))
-        {
-            if (def.matches(stack))
-            {
-                return def;
-            }
-        }
-        return null;
+        return CACHE.get(stack);
     }
 
     /**
@@ -170,15 +162,36 @@ public final class FoodCapability
     }
 
     /**
-     * This is a nice way of checking if two stacks are stackable, ignoring the creation date: copy both stacks, give them the same creation date, then check compatibility
+     * Checks if two stacks are stackable, ignoring the creation date. Neither stack is modified.
+     * Foods are compared by their traits first. If both foods have the same creation date, the stacks are compared as-is, otherwise copies of both stacks are given the same creation date, and compared.
      * This will also not stack stacks which have different traits, which is intended
      *
      * @return true if the stacks are otherwise stackable ignoring their creation date
      */
     public static boolean areStacksStackableExceptCreationDate(ItemStack stack1, ItemStack stack2)
     {
-        // This is a nice way of checking if two stacks are stackable, ignoring the creation date: copy both stacks, give them the same creation date, then check compatibility
-        // This will also not stack stacks which have different traits, which is intended
+        if (stack1.isEmpty() || !stack1.sameItem(stack2) || stack1.hasTag() != stack2.hasTag() || (stack1.hasTag() && !stack1.getTag().equals(stack2.getTag())))
+        {
+            return false;
+        }
+
+        final IFood food1 = stack1.getCapability(CAPABILITY).resolve().orElse(null);
+        final IFood food2 = stack2.getCapability(CAPABILITY).resolve().orElse(null);
+        if (food1 == null || food2 == null)
+        {
+            return food1 == food2 && stack1.areCapsCompatible(stack2);
+        }
+        if (!areFoodsStackableExceptCreationDate(food1, food2))
+        {
+            return false;
+        }
+        if (food1.getCreationDate() == food2.getCreationDate())
+        {
+            // Both foods will save the same creation date, so the capabilities can be compared directly
+            return stack1.areCapsCompatible(stack2);
+        }
+
+        // Other capabilities can only be compared with the foods saving the same creation date, so set it on copies of both stacks
         final ItemStack stack1Copy = stack1.copy(), stack2Copy = stack2.copy();
         final long date = Calendars.SERVER.getTicks();
         stack1Copy.getCapability(FoodCapability.CAPABILITY).ifPresent(food -> food.setCreationDate(date));
@@ -186,6 +199,22 @@ public final class FoodCapability
         return ItemHandlerHelper.canItemStacksStack(stack1Copy, stack2Copy);
     }
 
+    /**
+     * Compares everything that a food saves to its stack, except the creation date. This is the traits, in order, and the food data, if it is saved per stack.
+     */
+    static boolean areFoodsStackableExceptCreationDate(IFood food1, IFood food2)
+    {
+        if (!food1.getTraits().equals(food2.getTraits()))
+        {
+            return false;
+        }
+        if (food1 instanceof FoodHandler handler1 && food2 instanceof FoodHandler handler2 && (handler1.isDynamic() || handler2.isDynamic()))
+        {
+            return handler1.isDynamic() == handler2.isDynamic() && handler1.getData().write().equals(handler2.getData().write());
+        }
+        return true;
+    }
+
     /**
      * @return Gets the creation date to set a piece of food to, in order to stack items created nearby in time
      */
@@ -0,0 +1,201 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.common.capabilities.heat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A closed form model of a fuel burning device (such as a firepit or forge), and the items it is heating, used to catch up a device over a long period of time without simulating each tick.
+ * While burning a single piece of fuel, the device temperature moves linearly towards its target and then stays constant, and the temperature of each item is piecewise linear - heating, cooling, or following the device. So each piece of fuel is resolved in constant time.
+ * This matches the per tick behavior of {@link HeatCapability#adjustDeviceTemp(float, float, int, boolean)} without any air, and {@link HeatCapability#addTemp(IHeat, float)}.
+ */
+public final class DeviceHeatModel
+{
+    private final float deviceRate; // Device temperature change per tick
+    private final boolean itemsMatchDevice; // If items hotter than the device are set to the device temperature, rather than cooling naturally
+    private final List<Item> items;
+    private float temperature;
+
+    /**
+     * @param temperature      The current temperature of the device
+     * @param heatingModifier  The heating modifier, see {@link net.dries007.tfc.config.ServerConfig#heatingModifier}
+     * @param itemsMatchDevice If the device always heats its items, which will then immediately drop to the device temperature if they are hotter. Otherwise, items hotter than the device cool naturally.
+     */
+    public DeviceHeatModel(float temperature, float heatingModifier, boolean itemsMatchDevice)
+    {
+        this.temperature = temperature;
+        this.deviceRate = heatingModifier;
+        this.itemsMatchDevice = itemsMatchDevice;
+        this.items = new ArrayList<>();
+    }
+
+    /**
+     * Adds an item being heated by the device.
+     *
+     * @param temperature     The temperature of the item at the start of the period
+     * @param heatCapacity    The heat capacity of the item
+     * @param heatingModifier The heating modifier, see {@link net.dries007.tfc.config.ServerConfig#heatingModifier}
+     * @return The index of the item
+     */
+    public int addItem(float temperature, float heatCapacity, float heatingModifier)
+    {
+        final float cooling = heatCapacity * heatingModifier;
+        items.add(new Item(temperature, cooling * (HeatCapability.DEFAULT_HEATING_MODIFIER - 1), cooling));
+        return items.size() - 1;
+    }
+
+    public float getTemperature()
+    {
+        return temperature;
+    }
+
+    public float getItemTemperature(int index)
+    {
+        return items.get(index).temperature;
+    }
+
+    /**
+     * Burns the current fuel, and then each following fuel in order, until either the period is over, or the device runs out of fuel, at which point it cools towards zero for the rest of the period.
+     *
+     * @param ticks     The length of the period, in ticks
+     * @param burnRate  The number of burn ticks consumed each tick
+     * @param burnTicks The remaining burn ticks of the current fuel
+     * @param target    The target device temperature of the current fuel
+     * @param fuels     The duration and target device temperature of each fuel that can be consumed, in order
+     */
+    public BurnResult burn(long ticks, int burnRate, int burnTicks, float target, List<Burn> fuels)
+    {
+        long elapsed = 0;
+        int consumed = 0;
+        while (true)
+        {
+            // Ticks until the current fuel is exhausted, on the last of which the next fuel is consumed.
+            final long burning = burnTicks <= 0 ? 1 : (burnTicks + burnRate - 1) / burnRate;
+            final long remaining = ticks - elapsed;
+            if (burning > remaining)
+            {
+                advance(remaining, target);
+                return new BurnResult(consumed, (int) (burnTicks - remaining * burnRate), 0);
+            }
+
+            advance(burning - 1, target);
+            elapsed += burning;
+            if (consumed == fuels.size())
+            {
+                // Out of fuel, so the device is extinguished, and cools for the rest of the period
+                advance(ticks - elapsed + 1, 0);
+                return new BurnResult(consumed, 0, ticks - elapsed + 1);
+            }
+
+            // Any leftover (negative) burn ticks carry over to the next fuel
+            final Burn fuel = fuels.get(consumed++);
+            burnTicks = (burnTicks <= 0 ? burnTicks : (int) (burnTicks - burning * burnRate)) + fuel.duration;
+            target = fuel.target;
+            advance(1, target);
+        }
+    }
+
+    /**
+     * Advances the device towards a target temperature, without any fuel consumption.
+     */
+    public void advance(long ticks, float target)
+    {
+        if (ticks <= 0)
+        {
+            return;
+        }
+        if (temperature != target && deviceRate > 0)
+        {
+            final float slope = temperature < target ? deviceRate : -deviceRate;
+            final double ticksToTarget = Math.abs(target - temperature) / deviceRate;
+            if (ticksToTarget >= ticks)
+            {
+                advanceItems(ticks, slope);
+                temperature += slope * ticks;
+                return;
+            }
+            advanceItems(ticksToTarget, slope);
+            temperature = target;
+            advanceItems(ticks - ticksToTarget, 0);
+        }
+        else
+        {
+            advanceItems(ticks, 0);
+        }
+    }
+
+    /**
+     * Advances all items, while the device temperature moves linearly from the current temperature, with a given slope.
+     */
+    private void advanceItems(double ticks, float slope)
+    {
+        for (Item item : items)
+        {
+            if (itemsMatchDevice && item.temperature > temperature && temperature > 0)
+            {
+                item.temperature = temperature;
+            }
+
+            final double ticksToMeet;
+            if (item.temperature < temperature)
+            {
+                // Heating, until it reaches the device temperature
+                ticksToMeet = item.heating > slope ? (temperature - item.temperature) / (item.heating - slope) : Double.POSITIVE_INFINITY;
+                if (ticksToMeet >= ticks)
+                {
+                    item.temperature += item.heating * ticks;
+                    continue;
+                }
+            }
+            else if (item.temperature > temperature)
+            {
+                // Cooling, until the device temperature reaches it
+                ticksToMeet = slope > -item.cooling ? (item.temperature - temperature) / (slope + item.cooling) : Double.POSITIVE_INFINITY;
+                if (ticksToMeet >= ticks)
+                {
+                    item.temperature = Math.max(0, (float) (item.temperature - item.cooling * ticks));
+                    continue;
+                }
+            }
+            else
+            {
+                ticksToMeet = 0;
+            }
+
+            // At the device temperature, so follow it, as long as the item can heat or cool fast enough
+            final float rate = slope > item.heating ? item.heating : (slope < -item.cooling && !itemsMatchDevice ? -item.cooling : slope);
+            item.temperature = Math.max(0, (float) (temperature + slope * ticksToMeet + rate * (ticks - ticksToMeet)));
+        }
+    }
+
+    /**
+     * @param duration The burn ticks of the fuel
+     * @param target   The target device temperature while burning the fuel
+     */
+    public record Burn(int duration, float target) {}
+
+    /**
+     * @param consumed   The number of fuels consumed
+     * @param burnTicks  The remaining burn ticks of the last fuel consumed
+     * @param ticksUnlit The number of ticks at the end of the period, during which the device was out of fuel
+     */
+    public record BurnResult(int consumed, int burnTicks, long ticksUnlit) {}
+
+    private static final class Item
+    {
+        private final float heating, cooling;
+        private float temperature;
+
+        Item(float temperature, float heating, float cooling)
+        {
+            this.temperature = temperature;
+            this.heating = heating;
+            this.cooling = cooling;
+        }
+    }
+}
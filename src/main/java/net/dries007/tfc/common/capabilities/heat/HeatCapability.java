@@ -6,21 +6,24 @@
 
 package net.dries007.tfc.common.capabilities.heat;
 
+import java.util.ArrayList;
+import java.util.List;
 import javax.annotation.Nullable;
 
 import net.minecraft.resources.ResourceLocation;
-import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 import net.minecraftforge.common.capabilities.Capability;
 import net.minecraftforge.common.capabilities.CapabilityManager;
 import net.minecraftforge.common.capabilities.CapabilityToken;
+import net.minecraftforge.items.IItemHandler;
 import net.minecraftforge.items.IItemHandlerModifiable;
 
 import net.dries007.tfc.config.TFCConfig;
 import net.dries007.tfc.network.DataManagerSyncPacket;
 import net.dries007.tfc.util.DataManager;
 import net.dries007.tfc.util.Fuel;
-import net.dries007.tfc.util.collections.IndirectHashCollection;
+import net.dries007.tfc.util.calendar.Calendars;
+import net.dries007.tfc.util.collections.ItemDefinitionCache;
 
 import static net.dries007.tfc.TerraFirmaCraft.MOD_ID;
 
@@ -34,20 +37,15 @@ public final class HeatCapability
     public static final Capability<IHeatBlock> BLOCK_CAPABILITY = CapabilityManager.get(new CapabilityToken<>() {});
     public static final ResourceLocation BLOCK_KEY = new ResourceLocation(MOD_ID, "block_heat");
 
-    public static final IndirectHashCollection<Item, HeatDefinition> CACHE = new IndirectHashCollection<>(HeatDefinition::getValidItems);
+    public static final float DEFAULT_HEATING_MODIFIER = 3; // 2x normal cooling
+
+    public static final ItemDefinitionCache<HeatDefinition> CACHE = new ItemDefinitionCache<>();
     public static final DataManager<HeatDefinition> MANAGER = new DataManager<>("item_heats", "item heat", HeatDefinition::new, HeatCapability::reload, HeatDefinition::new, HeatDefinition::encode, DataManagerSyncPacket.THeatDefinition::new);
 
     @Nullable
     public static HeatDefinition get(ItemStack stack)
     {
-        for (HeatDefinition def : CACHE.getAll(stack.getItem()))
-        {
-            if (def.matches(stack))
-            {
-                return def;
-            }
-        }
-        return null;
+        return CACHE.get(stack);
     }
 
     public static float adjustTempTowards(float temp, float target)
@@ -139,8 +137,7 @@ public final class HeatCapability
 
     public static void addTemp(IHeat instance, float target)
     {
-        // Default modifier = 3 (2x normal cooling)
-        addTemp(instance, target, 3);
+        addTemp(instance, target, DEFAULT_HEATING_MODIFIER);
     }
 
     /**
@@ -159,50 +156,72 @@ public final class HeatCapability
     }
 
     /**
-     * Common logic for block entities to consume fuel during larger time skips.
+     * Common logic for fuel burning block entities to catch up during larger time skips. This burns through the fuel, and moves the temperature of the device and any items added to the model over the whole period, in closed form.
      *
-     * @param ticks           Ticks since the last calendar update. This is decremented as the method checks different fuel consumption options.
+     * @param model           A model of the device, including any heated items
+     * @param ticks           Ticks since the last calendar update.
      * @param inventory       Inventory to be modified (this should contain the fuel)
      * @param burnTicks       Remaining burn ticks of the fuel being burned
      * @param burnTemperature Current burning temperature of the TE (this is the fuel's target temperature)
      * @param slotStart       Index of the first fuel slot
      * @param slotEnd         Index of the last fuel slot
-     * @return The remainder after consuming fuel, along with an amount (possibly > 0) of ticks that haven't been accounted for.
+     * @param isRaining       If it is raining. Fuel burns twice as fast, and the device target temperature is lower.
+     * @return The remainder after consuming fuel, along with an amount (possibly > 0) of ticks at the end of the period after all fuel was consumed.
      */
-    public static Remainder consumeFuelForTicks(long ticks, IItemHandlerModifiable inventory, int burnTicks, float burnTemperature, int slotStart, int slotEnd)
+    public static Remainder consumeFuelForTicks(DeviceHeatModel model, long ticks, IItemHandlerModifiable inventory, int burnTicks, float burnTemperature, int slotStart, int slotEnd, boolean isRaining)
     {
-        if (burnTicks > ticks)
-        {
-            burnTicks -= ticks;
-            return new Remainder(burnTicks, burnTemperature, 0L);
-        }
-        else
+        final List<DeviceHeatModel.Burn> burns = new ArrayList<>();
+        for (int i = slotStart; i <= slotEnd; i++)
         {
-            ticks -= burnTicks;
-            burnTicks = 0;
+            final Fuel fuel = Fuel.get(inventory.getStackInSlot(i));
+            if (fuel != null)
+            {
+                burns.add(new DeviceHeatModel.Burn(fuel.getDuration(), targetDeviceTemp(fuel.getTemperature(), 0, isRaining)));
+            }
         }
-        // Need to consume fuel
-        for (int i = slotStart; i <= slotEnd; i++)
+
+        final DeviceHeatModel.BurnResult result = model.burn(ticks, isRaining ? 2 : 1, burnTicks, targetDeviceTemp(burnTemperature, 0, isRaining), burns);
+
+        // Remove the fuel that was consumed
+        int consumed = 0;
+        for (int i = slotStart; i <= slotEnd && consumed < result.consumed(); i++)
         {
-            ItemStack fuelStack = inventory.getStackInSlot(i);
-            Fuel fuel = Fuel.get(fuelStack);
+            final Fuel fuel = Fuel.get(inventory.getStackInSlot(i));
             if (fuel != null)
             {
                 inventory.setStackInSlot(i, ItemStack.EMPTY);
-                if (fuel.getDuration() > ticks)
-                {
-                    burnTicks = (int) (fuel.getDuration() - ticks);
-                    burnTemperature = fuel.getTemperature();
-                    return new Remainder(burnTicks, burnTemperature, 0L);
-                }
-                else
-                {
-                    ticks -= fuel.getDuration();
-                    burnTicks = 0;
-                }
+                burnTemperature = fuel.getTemperature();
+                consumed++;
             }
         }
-        return new Remainder(burnTicks, burnTemperature, ticks);
+        return new Remainder(result.burnTicks(), burnTemperature, result.ticksUnlit());
+    }
+
+    /**
+     * Adds the heatable items in a range of slots to a device model, with their temperature as of the start of the period.
+     *
+     * @return The heat of each item added, in order, to be updated with {@link #setItemTemperatures(DeviceHeatModel, List)} once the model is complete.
+     */
+    public static List<IHeat> addItemsToModel(DeviceHeatModel model, IItemHandler inventory, int slotStart, int slotEnd, long ticks)
+    {
+        final float modifier = TFCConfig.SERVER.heatingModifier.get().floatValue();
+        final List<IHeat> heats = new ArrayList<>();
+        for (int i = slotStart; i <= slotEnd; i++)
+        {
+            inventory.getStackInSlot(i).getCapability(CAPABILITY).ifPresent(heats::add);
+        }
+
+        // Items have been cooling on their own since the start of the period, so use their temperature at that time
+        Calendars.SERVER.runTransaction(-ticks, -ticks, () -> heats.forEach(heat -> model.addItem(heat.getTemperature(), heat.getHeatCapacity(), modifier)));
+        return heats;
+    }
+
+    public static void setItemTemperatures(DeviceHeatModel model, List<IHeat> heats)
+    {
+        for (int i = 0; i < heats.size(); i++)
+        {
+            heats.get(i).setTemperature(model.getItemTemperature(i));
+        }
     }
 
     private static void reload()
@@ -21,11 +21,11 @@ import net.dries007.tfc.mixin.accessor.ItemAccessor;
 import net.dries007.tfc.network.DataManagerSyncPacket;
 import net.dries007.tfc.util.DataManager;
 import net.dries007.tfc.util.Helpers;
-import net.dries007.tfc.util.collections.IndirectHashCollection;
+import net.dries007.tfc.util.collections.ItemDefinitionCache;
 
 public final class ItemSizeManager
 {
-    public static final IndirectHashCollection<Item, ItemSizeDefinition> CACHE = new IndirectHashCollection<>(ItemSizeDefinition::getValidItems);
+    public static final ItemDefinitionCache<ItemSizeDefinition> CACHE = new ItemDefinitionCache<>();
     public static final DataManager<ItemSizeDefinition> MANAGER = new DataManager<>("item_sizes", "item size", ItemSizeDefinition::new, ItemSizeManager::reload, ItemSizeDefinition::new, ItemSizeDefinition::encode, DataManagerSyncPacket.TItemSizeDefinition::new);
 
     private static final Logger LOGGER = LogManager.getLogger();
@@ -74,12 +74,10 @@ public final class ItemSizeManager
         }
 
         // Definitions
-        for (ItemSizeDefinition def : CACHE.getAll(stack.getItem()))
+        final ItemSizeDefinition def = CACHE.get(stack);
+        if (def != null)
         {
-            if (def.matches(stack))
-            {
-                return def;
-            }
+            return def;
         }
 
         // Default rules
@@ -9,10 +9,12 @@ package net.dries007.tfc.common.items;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
+import java.util.function.Predicate;
 import javax.annotation.Nullable;
 
 import net.minecraft.ChatFormatting;
 import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
 import net.minecraft.network.chat.Component;
 import net.minecraft.network.chat.TranslatableComponent;
 import net.minecraft.server.level.ServerPlayer;
@@ -29,6 +31,8 @@ import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.SoundType;
 import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.chunk.LevelChunkSection;
 import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.network.PacketDistributor;
 
@@ -47,15 +51,56 @@ public class PropickItem extends ToolItem
 
     private static final Random RANDOM = new Random();
 
+    /**
+     * Counts all states matching {@code tag} in the cube of {@code radius} around {@code center}.
+     * Iterates chunk sections directly, and skips any section whose palette cannot contain a matching state, which is the vast majority of sections.
+     */
     public static Object2IntMap<BlockState> scanAreaFor(Level level, BlockPos center, int radius, Tag<Block> tag)
     {
         final Object2IntMap<BlockState> results = new Object2IntOpenHashMap<>();
-        for (BlockPos cursor : BlockPos.betweenClosed(center.getX() - radius, center.getY() - radius, center.getZ() - radius, center.getX() + radius, center.getY() + radius, center.getZ() + radius))
+        final Predicate<BlockState> predicate = state -> state.is(tag);
+
+        final int minX = center.getX() - radius, maxX = center.getX() + radius;
+        final int minZ = center.getZ() - radius, maxZ = center.getZ() + radius;
+        final int minY = Math.max(center.getY() - radius, level.getMinBuildHeight());
+        final int maxY = Math.min(center.getY() + radius, level.getMaxBuildHeight() - 1);
+        if (minY > maxY)
+        {
+            return results;
+        }
+
+        for (int chunkX = SectionPos.blockToSectionCoord(minX); chunkX <= SectionPos.blockToSectionCoord(maxX); chunkX++)
         {
-            final BlockState state = level.getBlockState(cursor);
-            if (state.is(tag))
+            for (int chunkZ = SectionPos.blockToSectionCoord(minZ); chunkZ <= SectionPos.blockToSectionCoord(maxZ); chunkZ++)
             {
-                results.mergeInt(state, 1, Integer::sum);
+                final ChunkAccess chunk = level.getChunk(chunkX, chunkZ);
+                final int localMinX = Math.max(minX, SectionPos.sectionToBlockCoord(chunkX)) & 15, localMaxX = Math.min(maxX, SectionPos.sectionToBlockCoord(chunkX, 15)) & 15;
+                final int localMinZ = Math.max(minZ, SectionPos.sectionToBlockCoord(chunkZ)) & 15, localMaxZ = Math.min(maxZ, SectionPos.sectionToBlockCoord(chunkZ, 15)) & 15;
+
+                for (int sectionY = SectionPos.blockToSectionCoord(minY); sectionY <= SectionPos.blockToSectionCoord(maxY); sectionY++)
+                {
+                    final LevelChunkSection section = chunk.getSection(chunk.getSectionIndexFromSectionY(sectionY));
+                    if (section.hasOnlyAir() || !section.maybeHas(predicate))
+                    {
+                        continue;
+                    }
+
+                    final int localMinY = Math.max(minY, SectionPos.sectionToBlockCoord(sectionY)) & 15, localMaxY = Math.min(maxY, SectionPos.sectionToBlockCoord(sectionY, 15)) & 15;
+                    for (int y = localMinY; y <= localMaxY; y++)
+                    {
+                        for (int z = localMinZ; z <= localMaxZ; z++)
+                        {
+                            for (int x = localMinX; x <= localMaxX; x++)
+                            {
+                                final BlockState state = section.getBlockState(x, y, z);
+                                if (predicate.test(state))
+                                {
+                                    results.mergeInt(state, 1, Integer::sum);
+                                }
+                            }
+                        }
+                    }
+                }
             }
         }
         return results;
@@ -18,7 +18,6 @@ import net.minecraft.world.item.crafting.RecipeSerializer;
 import net.minecraft.world.item.crafting.RecipeType;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.LevelAccessor;
-import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.state.BlockState;
 
 import net.dries007.tfc.client.TFCSounds;
@@ -28,7 +27,7 @@ import net.dries007.tfc.common.recipes.ingredients.BlockIngredient;
 import net.dries007.tfc.common.recipes.inventory.BlockInventory;
 import net.dries007.tfc.config.TFCConfig;
 import net.dries007.tfc.util.Support;
-import net.dries007.tfc.util.collections.IndirectHashCollection;
+import net.dries007.tfc.util.collections.BlockStateLookup;
 import net.dries007.tfc.util.tracker.Collapse;
 import net.dries007.tfc.util.tracker.WorldTrackerCapability;
 
@@ -40,20 +39,22 @@ import net.dries007.tfc.util.tracker.WorldTrackerCapability;
  */
 public class CollapseRecipe extends SimpleBlockRecipe
 {
-    public static final IndirectHashCollection<Block, CollapseRecipe> CACHE = new IndirectHashCollection<>(recipe -> recipe.getBlockIngredient().getValidBlocks());
+    public static final BlockStateLookup<CollapseRecipe> CACHE = new BlockStateLookup<>(recipe -> recipe.getBlockIngredient().getValidBlocks(), CollapseRecipe::matches);
     private static final Random RANDOM = new Random();
 
     @Nullable
     public static CollapseRecipe getRecipe(Level world, BlockInventory wrapper)
     {
-        for (CollapseRecipe recipe : CACHE.getAll(wrapper.getState().getBlock()))
-        {
-            if (recipe.matches(wrapper, world))
-            {
-                return recipe;
-            }
-        }
-        return null;
+        return getRecipe(wrapper.getState());
+    }
+
+    /**
+     * Collapse recipes only depend on the state, so they can be looked up without a world or inventory.
+     */
+    @Nullable
+    public static CollapseRecipe getRecipe(BlockState state)
+    {
+        return CACHE.get(state);
     }
 
     /**
@@ -19,7 +19,6 @@ import net.minecraft.world.item.crafting.RecipeSerializer;
 import net.minecraft.world.item.crafting.RecipeType;
 import net.minecraft.world.level.BlockGetter;
 import net.minecraft.world.level.Level;
-import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.state.BlockState;
 
 import net.dries007.tfc.client.TFCSounds;
@@ -28,7 +27,7 @@ import net.dries007.tfc.common.entities.TFCFallingBlockEntity;
 import net.dries007.tfc.common.recipes.ingredients.BlockIngredient;
 import net.dries007.tfc.config.TFCConfig;
 import net.dries007.tfc.util.Support;
-import net.dries007.tfc.util.collections.IndirectHashCollection;
+import net.dries007.tfc.util.collections.BlockStateLookup;
 
 /**
  * This handles all logic for land slides (sideways gravity affected blocks)
@@ -38,20 +37,13 @@ import net.dries007.tfc.util.collections.IndirectHashCollection;
  */
 public class LandslideRecipe extends SimpleBlockRecipe
 {
-    public static final IndirectHashCollection<Block, LandslideRecipe> CACHE = new IndirectHashCollection<>(recipe -> recipe.getBlockIngredient().getValidBlocks());
+    public static final BlockStateLookup<LandslideRecipe> CACHE = new BlockStateLookup<>(recipe -> recipe.getBlockIngredient().getValidBlocks(), LandslideRecipe::matches);
     private static final Random RANDOM = new Random();
 
     @Nullable
     public static LandslideRecipe getRecipe(BlockState state)
     {
-        for (LandslideRecipe recipe : CACHE.getAll(state.getBlock()))
-        {
-            if (recipe.matches(state))
-            {
-                return recipe;
-            }
-        }
-        return null;
+        return CACHE.get(state);
     }
 
     /**
@@ -37,6 +37,7 @@ public class ServerConfig
     public final ForgeConfigSpec.BooleanValue enableLeavesSlowEntities;
     // Blocks - Plants
     public final ForgeConfigSpec.DoubleValue plantGrowthChance;
+    public final ForgeConfigSpec.IntValue fruitTreeGrowthUpdatesPerTick;
     // Blocks - Cobblestone
     public final ForgeConfigSpec.BooleanValue enableMossyRockSpreading;
     public final ForgeConfigSpec.IntValue mossyRockSpreadRate;
@@ -89,6 +90,8 @@ public class ServerConfig
     public final ForgeConfigSpec.DoubleValue collapseExplosionPropagateChance;
     public final ForgeConfigSpec.IntValue collapseMinRadius;
     public final ForgeConfigSpec.IntValue collapseRadiusVariance;
+    // Mechanics - Climate
+    public final ForgeConfigSpec.IntValue climateChunkUpdatesPerTick;
     // Mechanics - Food / Nutrition
     public final ForgeConfigSpec.BooleanValue peacefulDifficultyPassiveRegeneration;
     public final ForgeConfigSpec.DoubleValue passiveExhaustionModifier;
@@ -133,6 +136,9 @@ public class ServerConfig
         innerBuilder.pop().push("plants");
 
         plantGrowthChance = builder.apply("plantGrowthChance").comment("Chance for a plant to grow each random tick, does not include crops. Lower = slower growth. Set to 0 to disable random plant growth.").defineInRange("plantGrowthChance", 0.05, 0, 1);
+        fruitTreeGrowthUpdatesPerTick = builder.apply("fruitTreeGrowthUpdatesPerTick").comment(
+            "The maximum number of fruit tree branches, per dimension, which will grow per tick.",
+            "Fruit trees which have been unloaded for a long time will regrow over several ticks, rather than all at once.").defineInRange("fruitTreeGrowthUpdatesPerTick", 16, 1, 1024);
 
         innerBuilder.pop().push("leaves");
 
@@ -213,6 +219,12 @@ public class ServerConfig
         collapseMinRadius = builder.apply("collapseMinRadius").comment("Minimum radius for a collapse").defineInRange("collapseMinRadius", 3, 1, 32);
         collapseRadiusVariance = builder.apply("collapseRadiusVariance").comment("Variance of the radius of a collapse. Total size is in [minRadius, minRadius + radiusVariance]").defineInRange("collapseRadiusVariance", 16, 1, 32);
 
+        innerBuilder.pop().push("climate");
+
+        climateChunkUpdatesPerTick = builder.apply("climateChunkUpdatesPerTick").comment(
+            "The maximum number of chunks, per dimension, which will have their snow and ice updated per tick when they are loaded after a long time (over a month) unloaded.",
+            "Set to zero to disable, in which case snow and ice in these chunks will only be updated by random ticks.").defineInRange("climateChunkUpdatesPerTick", 2, 0, 256);
+
         innerBuilder.pop().push("player");
 
         peacefulDifficultyPassiveRegeneration = builder.apply("peacefulDifficultyPassiveRegeneration").comment("If peaceful difficulty should still have vanilla-esque passive regeneration of health, food, and hunger").define("peacefulDifficultyPassiveRegeneration", false);
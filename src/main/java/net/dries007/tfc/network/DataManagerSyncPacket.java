@@ -6,12 +6,11 @@
 
 package net.dries007.tfc.network;
 
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.*;
 
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.resources.ResourceLocation;
+import net.minecraftforge.network.PacketDistributor;
 
 import net.dries007.tfc.common.capabilities.food.FoodDefinition;
 import net.dries007.tfc.common.capabilities.heat.HeatDefinition;
@@ -24,23 +23,51 @@ import net.dries007.tfc.util.Metal;
 public abstract class DataManagerSyncPacket<T>
 {
     private Map<ResourceLocation, T> elements;
+    private List<ResourceLocation> ids;
     private int generation;
+    private int baseGeneration;
+    private boolean delta;
 
     public DataManagerSyncPacket()
     {
         elements = Collections.emptyMap();
+        ids = Collections.emptyList();
     }
 
     public DataManagerSyncPacket<T> with(Map<ResourceLocation, T> elements, int generation)
     {
         this.elements = elements;
         this.generation = generation;
+        this.delta = false;
+        return this;
+    }
+
+    /**
+     * A delta sync, which only contains the elements changed since {@code baseGeneration}, along with the ids of every element in order.
+     */
+    public DataManagerSyncPacket<T> withDelta(Map<ResourceLocation, T> changed, List<ResourceLocation> ids, int baseGeneration, int generation)
+    {
+        this.elements = changed;
+        this.ids = ids;
+        this.baseGeneration = baseGeneration;
+        this.generation = generation;
+        this.delta = true;
         return this;
     }
 
     void encode(DataManager<T> manager, FriendlyByteBuf buffer)
     {
         buffer.writeVarInt(generation);
+        buffer.writeBoolean(delta);
+        if (delta)
+        {
+            buffer.writeVarInt(baseGeneration);
+            buffer.writeVarInt(ids.size());
+            for (ResourceLocation id : ids)
+            {
+                buffer.writeResourceLocation(id);
+            }
+        }
         buffer.writeVarInt(elements.size());
         for (Map.Entry<ResourceLocation, T> entry : elements.entrySet())
         {
@@ -52,7 +79,18 @@ public abstract class DataManagerSyncPacket<T>
     void decode(DataManager<T> manager, FriendlyByteBuf buffer)
     {
         this.generation = buffer.readVarInt();
-        this.elements = new HashMap<>();
+        this.delta = buffer.readBoolean();
+        if (delta)
+        {
+            this.baseGeneration = buffer.readVarInt();
+            final int idsSize = buffer.readVarInt();
+            this.ids = new ArrayList<>(idsSize);
+            for (int i = 0; i < idsSize; i++)
+            {
+                ids.add(buffer.readResourceLocation());
+            }
+        }
+        this.elements = new LinkedHashMap<>(); // Preserve the server's order, as some lookups return the first matching element
         final int size = buffer.readVarInt();
         for (int i = 0; i < size; i++)
         {
@@ -64,7 +102,18 @@ public abstract class DataManagerSyncPacket<T>
 
     void handle(DataManager<T> manager)
     {
-        manager.onSync(elements, generation);
+        if (delta)
+        {
+            if (!manager.onSyncDelta(elements, ids, baseGeneration, generation))
+            {
+                // We missed a previous generation, so the delta can't be applied. Ask the server for everything instead.
+                PacketHandler.send(PacketDistributor.SERVER.noArg(), new DataManagerSyncRequestPacket(PacketHandler.getDataManagerId(manager)));
+            }
+        }
+        else
+        {
+            manager.onSync(elements, generation);
+        }
     }
 
     public static class TMetal extends DataManagerSyncPacket<Metal> {}
@@ -0,0 +1,49 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.network;
+
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraftforge.network.NetworkEvent;
+import net.minecraftforge.network.PacketDistributor;
+
+import net.dries007.tfc.util.DataManager;
+
+/**
+ * Sent by a client which received a delta sync it could not apply, as it is missing the base generation. The server responds with a full sync of that manager.
+ */
+public class DataManagerSyncRequestPacket
+{
+    private final int managerID;
+
+    public DataManagerSyncRequestPacket(int managerID)
+    {
+        this.managerID = managerID;
+    }
+
+    DataManagerSyncRequestPacket(FriendlyByteBuf buffer)
+    {
+        managerID = buffer.readVarInt();
+    }
+
+    void encode(FriendlyByteBuf buffer)
+    {
+        buffer.writeVarInt(managerID);
+    }
+
+    void handle(NetworkEvent.Context context)
+    {
+        context.enqueueWork(() -> {
+            final ServerPlayer player = context.getSender();
+            final DataManager<?> manager = PacketHandler.getDataManager(managerID);
+            if (player != null && manager != null)
+            {
+                PacketHandler.send(PacketDistributor.PLAYER.with(() -> player), manager.createSyncPacket());
+            }
+        });
+    }
+}
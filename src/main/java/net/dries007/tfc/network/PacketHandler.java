@@ -7,9 +7,12 @@
 package net.dries007.tfc.network;
 
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import javax.annotation.Nullable;
 
 import org.apache.commons.lang3.mutable.MutableInt;
 import net.minecraft.network.FriendlyByteBuf;
@@ -25,9 +28,10 @@ import net.dries007.tfc.util.*;
 
 public final class PacketHandler
 {
-    private static final String VERSION = Integer.toString(1);
+    private static final String VERSION = Integer.toString(2);
     private static final SimpleChannel CHANNEL = NetworkRegistry.newSimpleChannel(Helpers.identifier("network"), () -> VERSION, VERSION::equals, VERSION::equals);
     private static final MutableInt ID = new MutableInt(0);
+    private static final List<DataManager<?>> DATA_MANAGERS = new ArrayList<>();
 
     public static void send(PacketDistributor.PacketTarget target, Object message)
     {
@@ -58,11 +62,27 @@ public final class PacketHandler
         register(PlaceBlockSpecialPacket.class, PlaceBlockSpecialPacket::new, PlaceBlockSpecialPacket::handle);
         register(ScreenButtonPacket.class, ScreenButtonPacket::encode, ScreenButtonPacket::new, ScreenButtonPacket::handle);
         register(PlayerDrinkPacket.class, PlayerDrinkPacket::new, PlayerDrinkPacket::handle);
+        register(DataManagerSyncRequestPacket.class, DataManagerSyncRequestPacket::encode, DataManagerSyncRequestPacket::new, DataManagerSyncRequestPacket::handle);
+    }
+
+    /**
+     * Data managers are identified over the network by the order they were registered in.
+     */
+    static int getDataManagerId(DataManager<?> manager)
+    {
+        return DATA_MANAGERS.indexOf(manager);
+    }
+
+    @Nullable
+    static DataManager<?> getDataManager(int id)
+    {
+        return id >= 0 && id < DATA_MANAGERS.size() ? DATA_MANAGERS.get(id) : null;
     }
 
     @SuppressWarnings("unchecked")
     private static <T extends DataManagerSyncPacket<E>, E> void registerDataManager(Class<T> cls, DataManager<E> manager)
     {
+        DATA_MANAGERS.add(manager);
         CHANNEL.registerMessage(ID.getAndIncrement(), cls,
             (packet, buffer) -> packet.encode(manager, buffer),
             buffer -> {
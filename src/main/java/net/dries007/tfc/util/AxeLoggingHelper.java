@@ -6,60 +6,95 @@
 
 package net.dries007.tfc.util;
 
-import java.util.*;
+import java.util.ArrayList;
+import java.util.List;
 
 import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.InteractionHand;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.LevelAccessor;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.block.state.properties.BooleanProperty;
+import net.minecraftforge.items.ItemHandlerHelper;
 
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongList;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import net.dries007.tfc.common.TFCTags;
 import net.dries007.tfc.common.blocks.TFCBlockStateProperties;
+import net.dries007.tfc.util.tracker.Felling;
+import net.dries007.tfc.util.tracker.WorldTrackerCapability;
 
 public class AxeLoggingHelper
 {
+    /**
+     * The maximum number of logs that will be searched for, and felled, from a single chop.
+     */
+    public static final int MAX_LOGS = 4096;
+
+    /**
+     * The maximum number of logs that will be destroyed in a single tick. Larger trees are felled over several ticks by the world tracker.
+     */
+    public static final int LOGS_PER_TICK = 256;
+
     private static final BooleanProperty NATURAL = TFCBlockStateProperties.NATURAL;
 
     public static void doLogging(LevelAccessor level, BlockPos pos, Player player, ItemStack axe)
     {
-        for (BlockPos log : findLogs(level, pos))
+        if (!(level instanceof ServerLevel serverLevel))
         {
-            level.destroyBlock(log, true, player);
-            axe.hurtAndBreak(1, player, p -> p.broadcastBreakEvent(InteractionHand.MAIN_HAND));
-            if (axe.isEmpty())
-            {
-                return; // stop breaking if the axe is broken
-            }
+            return;
+        }
+
+        final ItemStack tool = axe.copy(); // Drops are computed with the axe as it was before felling
+        final LongList logs = findLogs(level, pos, MAX_LOGS);
+
+        final long[] packedLogs = logs.toLongArray();
+        final int index = fellLogs(serverLevel, pos, packedLogs, 0, Math.min(packedLogs.length, LOGS_PER_TICK), player, axe, tool);
+        if (index < packedLogs.length && !axe.isEmpty())
+        {
+            serverLevel.getCapability(WorldTrackerCapability.CAPABILITY).ifPresent(cap -> cap.addFelling(new Felling(pos, packedLogs, index, player, axe, tool)));
         }
     }
 
-    public static List<BlockPos> findLogs(LevelAccessor level, BlockPos pos)
+    /**
+     * Finds all connected logging blocks starting from {@code pos}, up to a maximum of {@code maxLogs}.
+     *
+     * @return A list of packed positions, sorted by descending distance to {@code pos}
+     */
+    public static LongList findLogs(LevelAccessor level, BlockPos pos, int maxLogs)
     {
-        final Set<BlockPos> seen = new HashSet<>(64);
-        final List<BlockPos> logs = new ArrayList<>(16);
+        final LongSet seen = new LongOpenHashSet(64);
+        final LongList logs = new LongArrayList(16);
         final BlockPos.MutableBlockPos cursor = new BlockPos.MutableBlockPos();
+        final BlockPos.MutableBlockPos origin = new BlockPos.MutableBlockPos();
 
-        logs.add(pos);
+        logs.add(pos.asLong());
+        seen.add(pos.asLong());
+        search:
         for (int i = 0; i < logs.size(); i++)
         {
-            final BlockPos log = logs.get(i);
+            origin.set(logs.getLong(i));
             for (int dx = -1; dx <= 1; dx++)
             {
                 for (int dy = -1; dy <= 1; dy++)
                 {
                     for (int dz = -1; dz <= 1; dz++)
                     {
-                        cursor.setWithOffset(log, dx, dy, dz);
-                        if (!seen.contains(cursor))
+                        cursor.setWithOffset(origin, dx, dy, dz);
+                        final long packed = cursor.asLong();
+                        if (seen.add(packed) && isLoggingBlock(level.getBlockState(cursor)))
                         {
-                            final BlockPos cursorPos = cursor.immutable();
-                            seen.add(cursorPos);
-                            if (isLoggingBlock(level.getBlockState(cursorPos)))
+                            logs.add(packed);
+                            if (logs.size() >= maxLogs)
                             {
-                                logs.add(cursorPos);
+                                break search;
                             }
                         }
                     }
@@ -68,10 +103,86 @@ public class AxeLoggingHelper
         }
 
         // Sort the list in terms of max distance to the original tree
-        logs.sort(Comparator.comparing(x -> -x.distSqr(pos)));
+        logs.sort((long a, long b) -> Long.compare(distSqr(b, pos), distSqr(a, pos)));
         return logs;
     }
 
+    /**
+     * Destroys the logs in {@code packedLogs} from {@code from} (inclusive) to {@code to} (exclusive) as a single batch.
+     * Unlike {@link LevelAccessor#destroyBlock(BlockPos, boolean)}, this does not send a break effect, or spawn drops, per block. Drops are merged and spawned together at {@code origin}, and neighbor updates are only issued across the boundary of the removed logs.
+     * Positions which are no longer loaded, or no longer logging blocks (i.e. they were changed since the tree was searched), are skipped.
+     * The axe is damaged by one point for each log removed, and felling stops if it breaks.
+     *
+     * @param axe  The axe being used, which is damaged.
+     * @param tool A copy of the axe as it was before felling, which is used for computing drops.
+     * @return The index of the first log which was not processed. This is {@code to}, unless the axe broke.
+     */
+    public static int fellLogs(ServerLevel level, BlockPos origin, long[] packedLogs, int from, int to, Player player, ItemStack axe, ItemStack tool)
+    {
+        final LongSet removed = new LongOpenHashSet(to - from);
+        final List<ItemStack> drops = new ArrayList<>();
+        final BlockPos.MutableBlockPos cursor = new BlockPos.MutableBlockPos();
+        BlockState effectState = null;
+
+        int index = from;
+        while (index < to && !axe.isEmpty())
+        {
+            cursor.set(packedLogs[index]);
+            index++;
+            if (!level.isLoaded(cursor))
+            {
+                continue;
+            }
+            final BlockState state = level.getBlockState(cursor);
+            if (!isLoggingBlock(state))
+            {
+                continue;
+            }
+
+            final BlockEntity entity = state.hasBlockEntity() ? level.getBlockEntity(cursor) : null;
+            for (ItemStack drop : Block.getDrops(state, level, cursor, entity, player, tool))
+            {
+                mergeDrop(drops, drop);
+            }
+            state.spawnAfterBreak(level, cursor, tool);
+
+            // Skip both neighbor updates and neighbor shape updates, those are done once the whole batch is removed
+            level.setBlock(cursor, level.getFluidState(cursor).createLegacyBlock(), Block.UPDATE_CLIENTS | Block.UPDATE_KNOWN_SHAPE);
+            removed.add(cursor.asLong());
+            effectState = state;
+
+            axe.hurtAndBreak(1, player, p -> p.broadcastBreakEvent(InteractionHand.MAIN_HAND));
+        }
+
+        if (effectState == null)
+        {
+            return index;
+        }
+
+        final BlockPos.MutableBlockPos neighbor = new BlockPos.MutableBlockPos();
+        for (long packed : removed)
+        {
+            cursor.set(packed);
+            final BlockState state = level.getBlockState(cursor);
+            for (Direction direction : Helpers.DIRECTIONS)
+            {
+                neighbor.setWithOffset(cursor, direction);
+                if (!removed.contains(neighbor.asLong()))
+                {
+                    level.neighborShapeChanged(direction.getOpposite(), state, neighbor, cursor, Block.UPDATE_ALL, 512);
+                    level.neighborChanged(neighbor, state.getBlock(), cursor);
+                }
+            }
+        }
+
+        level.levelEvent(2001, origin, Block.getId(effectState));
+        for (ItemStack drop : drops)
+        {
+            Block.popResource(level, origin, drop);
+        }
+        return index;
+    }
+
     public static boolean isLoggingAxe(ItemStack stack)
     {
         return TFCTags.Items.AXES_THAT_LOG.contains(stack.getItem());
@@ -81,4 +192,28 @@ public class AxeLoggingHelper
     {
         return TFCTags.Blocks.LOGS_THAT_LOG.contains(state.getBlock()) && (!state.hasProperty(NATURAL) || state.getValue(NATURAL));
     }
+
+    private static void mergeDrop(List<ItemStack> drops, ItemStack drop)
+    {
+        for (ItemStack existing : drops)
+        {
+            if (ItemHandlerHelper.canItemStacksStack(existing, drop))
+            {
+                final int moved = Math.min(drop.getCount(), existing.getMaxStackSize() - existing.getCount());
+                existing.grow(moved);
+                drop.shrink(moved);
+                if (drop.isEmpty())
+                {
+                    return;
+                }
+            }
+        }
+        drops.add(drop);
+    }
+
+    private static long distSqr(long packed, BlockPos pos)
+    {
+        final long dx = BlockPos.getX(packed) - pos.getX(), dy = BlockPos.getY(packed) - pos.getY(), dz = BlockPos.getZ(packed) - pos.getZ();
+        return dx * dx + dy * dy + dz * dz;
+    }
 }
@@ -34,8 +34,7 @@ public enum CacheInvalidationListener implements SyncReloadListener
     {
         final RecipeManager manager = server.getRecipeManager();
 
-        CollapseRecipe.CACHE.reload(manager.getAllRecipesFor(TFCRecipeTypes.COLLAPSE.get()));
-        LandslideRecipe.CACHE.reload(manager.getAllRecipesFor(TFCRecipeTypes.LANDSLIDE.get()));
+        invalidateBlockStateCaches(server);
         HeatingRecipe.CACHE.reload(manager.getAllRecipesFor(TFCRecipeTypes.HEATING.get()));
         QuernRecipe.CACHE.reload(manager.getAllRecipesFor(TFCRecipeTypes.QUERN.get()));
         ScrapingRecipe.CACHE.reload(manager.getAllRecipesFor(TFCRecipeTypes.SCRAPING.get()));
@@ -43,6 +42,17 @@ public enum CacheInvalidationListener implements SyncReloadListener
 
         LocateVeinCommand.clearCache();
         InteractionManager.reloadCache();
+    }
+
+    /**
+     * Block state lookups resolve tag ingredients when they are built, so they also need to be rebuilt once the new tags are bound, which happens after all reload listeners have run.
+     */
+    public void invalidateBlockStateCaches(MinecraftServer server)
+    {
+        final RecipeManager manager = server.getRecipeManager();
 
+        CollapseRecipe.CACHE.reload(manager.getAllRecipesFor(TFCRecipeTypes.COLLAPSE.get()));
+        LandslideRecipe.CACHE.reload(manager.getAllRecipesFor(TFCRecipeTypes.LANDSLIDE.get()));
+        Support.CACHE.reload(Support.MANAGER.getValues());
     }
 }
\ No newline at end of file
@@ -6,12 +6,11 @@
 
 package net.dries007.tfc.util;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Set;
+import java.util.*;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import javax.annotation.Nullable;
 
 import com.google.common.collect.BiMap;
@@ -20,6 +19,7 @@ import com.google.gson.Gson;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParseException;
+import io.netty.buffer.Unpooled;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import net.minecraft.network.FriendlyByteBuf;
@@ -46,7 +46,9 @@ public class DataManager<T> extends SimpleJsonResourceReloadListener
     protected final BiMap<ResourceLocation, T> types;
     protected final String typeName;
 
-    private int generation;
+    private int generation; // Starts from a random value, so a client switching between servers is unlikely to see a matching generation
+    private Map<ResourceLocation, byte[]> encodedTypes; // Network encoded form of each type, used to compute the changes on reload
+    @Nullable private Delta<T> lastDelta; // The changes from the previous generation to the current one
 
     protected final BiFunction<ResourceLocation, JsonObject, T> factory;
     @Nullable protected final Runnable postReloadCallback;
@@ -86,6 +88,8 @@ public class DataManager<T> extends SimpleJsonResourceReloadListener
 
         this.types = HashBiMap.create();
         this.typeName = typeName;
+        this.generation = new Random().nextInt();
+        this.encodedTypes = Collections.emptyMap();
     }
 
     @Nullable
@@ -125,6 +129,18 @@ public class DataManager<T> extends SimpleJsonResourceReloadListener
         return createEmptyPacket().with(types, generation);
     }
 
+    /**
+     * Creates a packet containing only the types which were added or changed by the last reload, along with the ids of every type in order, so clients can rebuild the same iteration order as the server. This is only valid for clients which have received the previous generation, otherwise use {@link #createSyncPacket()}.
+     */
+    public DataManagerSyncPacket<T> createDeltaSyncPacket()
+    {
+        if (lastDelta == null)
+        {
+            return createSyncPacket();
+        }
+        return createEmptyPacket().withDelta(lastDelta.changed, lastDelta.ids, lastDelta.baseGeneration, generation);
+    }
+
     public DataManagerSyncPacket<T> createEmptyPacket()
     {
         assert networkPacketFactory != null;
@@ -156,7 +172,7 @@ public class DataManager<T> extends SimpleJsonResourceReloadListener
             // This prevents a sync form local server -> local client.
             types.clear();
             types.putAll(elements);
-            this.generation++;
+            this.generation = generation;
             if (postReloadCallback != null)
             {
                 postReloadCallback.run();
@@ -169,36 +185,127 @@ public class DataManager<T> extends SimpleJsonResourceReloadListener
         }
     }
 
+    /**
+     * Rebuilds the types in the order given by {@code ids}, taking each from {@code changed} if present, and otherwise from the current generation. The order matters, as lookups such as {@link net.dries007.tfc.util.collections.ItemDefinitionCache} return the first matching type.
+     *
+     * @return {@code false} if the delta could not be applied, as it is based on a generation this does not have. In that case a full sync is required.
+     */
+    public boolean onSyncDelta(Map<ResourceLocation, T> changed, List<ResourceLocation> ids, int baseGeneration, int generation)
+    {
+        if (this.generation == generation)
+        {
+            LOGGER.info("Ignored {}(s) sync with generation {}", typeName, generation);
+            return true;
+        }
+        if (this.generation != baseGeneration)
+        {
+            LOGGER.warn("Ignored {}(s) sync with generation {}, as it is based on generation {} but we have generation {}. Requesting a full sync.", typeName, generation, baseGeneration, this.generation);
+            return false;
+        }
+
+        final Map<ResourceLocation, T> ordered = new LinkedHashMap<>();
+        for (ResourceLocation id : ids)
+        {
+            final T type = changed.containsKey(id) ? changed.get(id) : types.get(id);
+            if (type == null)
+            {
+                LOGGER.warn("Ignored {}(s) sync with generation {}, as {} is neither changed nor present in generation {}. Requesting a full sync.", typeName, generation, id, this.generation);
+                return false;
+            }
+            ordered.put(id, type);
+        }
+
+        types.clear();
+        types.putAll(ordered);
+        this.generation = generation;
+        if (postReloadCallback != null)
+        {
+            postReloadCallback.run();
+        }
+        LOGGER.info("Received {} changed of {} {}(s) from server", changed.size(), types.size(), typeName);
+        return true;
+    }
+
     @Override
     protected void apply(Map<ResourceLocation, JsonElement> elements, ResourceManager resourceManagerIn, ProfilerFiller profilerIn)
     {
+        // Parse in parallel, as large packs can have thousands of entries. The results are then added in the original iteration order.
+        final List<Map.Entry<ResourceLocation, JsonElement>> entries = new ArrayList<>(elements.entrySet());
+        final List<T> results = entries.parallelStream()
+            .map(entry -> parse(entry.getKey(), entry.getValue()))
+            .collect(Collectors.toList());
+
         types.clear();
         generation++;
-        for (Map.Entry<ResourceLocation, JsonElement> entry : elements.entrySet())
+        for (int i = 0; i < entries.size(); i++)
         {
-            ResourceLocation name = entry.getKey();
-            JsonObject json = GsonHelper.convertToJsonObject(entry.getValue(), typeName);
-            try
+            final T result = results.get(i);
+            if (result != null)
             {
-                if (CraftingHelper.processConditions(json, "conditions"))
-                {
-                    T object = read(name, json);
-                    types.put(name, object);
-                }
-                else
-                {
-                    LOGGER.debug("Skipping loading {} '{}' as it's conditions were not met", typeName, name);
-                }
-            }
-            catch (IllegalArgumentException | JsonParseException e)
-            {
-                LOGGER.error("{} '{}' failed to parse. {}: {}", typeName, name, e.getClass().getSimpleName(), e.getMessage());
+                types.put(entries.get(i).getKey(), result);
             }
         }
+        updateDelta();
         if (postReloadCallback != null)
         {
             postReloadCallback.run();
         }
         LOGGER.info("Loaded {} {}(s).", types.size(), typeName);
     }
+
+    @Nullable
+    private T parse(ResourceLocation name, JsonElement element)
+    {
+        try
+        {
+            final JsonObject json = GsonHelper.convertToJsonObject(element, typeName);
+            if (CraftingHelper.processConditions(json, "conditions"))
+            {
+                return read(name, json);
+            }
+            LOGGER.debug("Skipping loading {} '{}' as it's conditions were not met", typeName, name);
+        }
+        catch (IllegalArgumentException | JsonParseException e)
+        {
+            LOGGER.error("{} '{}' failed to parse. {}: {}", typeName, name, e.getClass().getSimpleName(), e.getMessage());
+        }
+        return null;
+    }
+
+    /**
+     * Compares the network encoded form of each type against the previous generation, in order to compute the changes that need to be synced to clients.
+     * The encoded form is compared, rather than the json, as the same json may resolve to different content (i.e. tags).
+     */
+    private void updateDelta()
+    {
+        if (networkEncoder == null)
+        {
+            return;
+        }
+
+        final Map<ResourceLocation, byte[]> encoded = new HashMap<>();
+        final Map<ResourceLocation, T> changed = new HashMap<>();
+        for (Map.Entry<ResourceLocation, T> entry : types.entrySet())
+        {
+            final FriendlyByteBuf buffer = new FriendlyByteBuf(Unpooled.buffer());
+            encode(buffer, entry.getValue());
+            final byte[] bytes = new byte[buffer.readableBytes()];
+            buffer.readBytes(bytes);
+            buffer.release();
+
+            encoded.put(entry.getKey(), bytes);
+            if (!Arrays.equals(bytes, encodedTypes.get(entry.getKey())))
+            {
+                changed.put(entry.getKey(), entry.getValue());
+            }
+        }
+
+        lastDelta = encodedTypes.isEmpty() ? null : new Delta<>(generation - 1, changed, List.copyOf(types.keySet()));
+        encodedTypes = encoded;
+    }
+
+    /**
+     * @param ids Every id in the current generation, in iteration order. Removed types are those which are not present.
+     */
+    private record Delta<T>(int baseGeneration, Map<ResourceLocation, T> changed, List<ResourceLocation> ids) {}
 }
\ No newline at end of file
@@ -48,17 +48,39 @@ public final class EnvironmentHelpers
     {
         final ChunkPos chunkPos = chunk.getPos();
         final BlockPos lcgPos = level.getBlockRandomPos(chunkPos.getMinBlockX(), 0, chunkPos.getMinBlockZ(), 15);
+
+        // Roll each effect first, as the vast majority of ticks will do nothing, and the temperature is only needed once one passes
+        final Random random = level.getRandom();
+        final boolean snow = random.nextInt(16) == 0;
+        final boolean ice = random.nextInt(16) == 0;
+        final boolean icicles = random.nextInt(16) == 0 && level.isRaining();
+        if (!snow && !ice && !icicles)
+        {
+            return;
+        }
+
         final BlockPos surfacePos = level.getHeightmapPos(Heightmap.Types.MOTION_BLOCKING, lcgPos);
         final BlockPos groundPos = surfacePos.below();
         final float temperature = Climate.getTemperature(level, surfacePos);
 
-        profiler.push("tfcSnow");
-        doSnow(level, surfacePos, temperature);
-        profiler.popPush("tfcIce");
-        doIce(level, groundPos, temperature);
-        profiler.popPush("tfcIcicles");
-        doIcicles(level, surfacePos, temperature);
-        profiler.pop();
+        if (snow)
+        {
+            profiler.push("tfcSnow");
+            doSnow(level, surfacePos, temperature);
+            profiler.pop();
+        }
+        if (ice)
+        {
+            profiler.push("tfcIce");
+            doIce(level, groundPos, temperature);
+            profiler.pop();
+        }
+        if (icicles)
+        {
+            profiler.push("tfcIcicles");
+            doIcicles(level, surfacePos, temperature);
+            profiler.pop();
+        }
     }
 
     public static boolean isSnow(BlockState state)
@@ -92,30 +114,27 @@ public final class EnvironmentHelpers
     private static void doSnow(Level level, BlockPos surfacePos, float temperature)
     {
         final Random random = level.getRandom();
-        if (random.nextInt(16) == 0)
+        // Snow only accumulates during rain
+        if (temperature < OverworldClimateModel.SNOW_FREEZE_TEMPERATURE && level.isRaining())
         {
-            // Snow only accumulates during rain
-            if (temperature < OverworldClimateModel.SNOW_FREEZE_TEMPERATURE && level.isRaining())
+            // Handle smoother snow placement: if there's an adjacent position with less snow, switch to that position instead
+            // Additionally, handle up to two block tall plants if they can be piled
+            // This means we need to check three levels deep
+            if (!placeSnowOrSnowPile(level, surfacePos, random))
             {
-                // Handle smoother snow placement: if there's an adjacent position with less snow, switch to that position instead
-                // Additionally, handle up to two block tall plants if they can be piled
-                // This means we need to check three levels deep
-                if (!placeSnowOrSnowPile(level, surfacePos, random))
+                if (!placeSnowOrSnowPile(level, surfacePos.below(), random))
                 {
-                    if (!placeSnowOrSnowPile(level, surfacePos.below(), random))
-                    {
-                        placeSnowOrSnowPile(level, surfacePos.below(2), random);
-                    }
+                    placeSnowOrSnowPile(level, surfacePos.below(2), random);
                 }
             }
-            else if (temperature > OverworldClimateModel.SNOW_MELT_TEMPERATURE)
+        }
+        else if (temperature > OverworldClimateModel.SNOW_MELT_TEMPERATURE)
+        {
+            // Snow melting - both snow and snow piles
+            final BlockState state = level.getBlockState(surfacePos);
+            if (isSnow(state))
             {
-                // Snow melting - both snow and snow piles
-                final BlockState state = level.getBlockState(surfacePos);
-                if (isSnow(state))
-                {
-                    SnowPileBlock.removePileOrSnow(level, surfacePos, state);
-                }
+                SnowPileBlock.removePileOrSnow(level, surfacePos, state);
             }
         }
     }
@@ -187,30 +206,26 @@ public final class EnvironmentHelpers
 
     private static void doIce(Level level, BlockPos groundPos, float temperature)
     {
-        final Random random = level.getRandom();
-        if (random.nextInt(16) == 0)
+        BlockState groundState = level.getBlockState(groundPos);
+        if (temperature < OverworldClimateModel.ICE_FREEZE_TEMPERATURE)
         {
-            BlockState groundState = level.getBlockState(groundPos);
-            if (temperature < OverworldClimateModel.ICE_FREEZE_TEMPERATURE)
-            {
-                FluidState groundFluid = groundState.getFluidState();
-
-                // First, since we want to handle water with a single block above, if we find no water, but we find one below, we choose that instead
-                if (groundFluid.getType() != Fluids.WATER)
-                {
-                    groundPos = groundPos.below();
-                    groundState = level.getBlockState(groundPos);
-                }
+            FluidState groundFluid = groundState.getFluidState();
 
-                IcePileBlock.placeIcePileOrIce(level, groundPos, groundState, false);
+            // First, since we want to handle water with a single block above, if we find no water, but we find one below, we choose that instead
+            if (groundFluid.getType() != Fluids.WATER)
+            {
+                groundPos = groundPos.below();
+                groundState = level.getBlockState(groundPos);
             }
-            else if (temperature > OverworldClimateModel.ICE_MELT_TEMPERATURE)
+
+            IcePileBlock.placeIcePileOrIce(level, groundPos, groundState, false);
+        }
+        else if (temperature > OverworldClimateModel.ICE_MELT_TEMPERATURE)
+        {
+            // Handle ice melting
+            if (groundState.getBlock() == Blocks.ICE || groundState.getBlock() == TFCBlocks.ICE_PILE.get())
             {
-                // Handle ice melting
-                if (groundState.getBlock() == Blocks.ICE || groundState.getBlock() == TFCBlocks.ICE_PILE.get())
-                {
-                    IcePileBlock.removeIcePileOrIce(level, groundPos, groundState);
-                }
+                IcePileBlock.removeIcePileOrIce(level, groundPos, groundState);
             }
         }
     }
@@ -218,7 +233,7 @@ public final class EnvironmentHelpers
     private static void doIcicles(Level level, BlockPos lcgPos, float temperature)
     {
         final Random random = level.getRandom();
-        if (random.nextInt(16) == 0 && level.isRaining() && temperature < OverworldClimateModel.ICICLE_MAX_FREEZE_TEMPERATURE && temperature > OverworldClimateModel.ICICLE_MIN_FREEZE_TEMPERATURE)
+        if (temperature < OverworldClimateModel.ICICLE_MAX_FREEZE_TEMPERATURE && temperature > OverworldClimateModel.ICICLE_MIN_FREEZE_TEMPERATURE)
         {
             // Place icicles under overhangs
             final BlockPos iciclePos = findIcicleLocation(level, lcgPos, random);
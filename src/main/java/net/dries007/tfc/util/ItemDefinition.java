@@ -42,6 +42,14 @@ public class ItemDefinition
         return ingredient.test(stack);
     }
 
+    /**
+     * @return {@code true} if this definition matches every stack of its valid items, regardless of any other stack data such as NBT. This is true for plain item and tag ingredients.
+     */
+    public boolean isUnconditional()
+    {
+        return ingredient.getClass() == Ingredient.class;
+    }
+
     public Collection<Item> getValidItems()
     {
         return Arrays.stream(ingredient.getItems()).map(ItemStack::getItem).collect(Collectors.toSet());
@@ -16,17 +16,16 @@ import net.minecraft.core.BlockPos;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.util.GsonHelper;
 import net.minecraft.world.level.BlockGetter;
-import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.state.BlockState;
 
 import net.dries007.tfc.common.recipes.ingredients.BlockIngredient;
 import net.dries007.tfc.common.recipes.ingredients.BlockIngredients;
-import net.dries007.tfc.util.collections.IndirectHashCollection;
+import net.dries007.tfc.util.collections.BlockStateLookup;
 
 public final class Support
 {
     public static final DataManager<Support> MANAGER = new DataManager<>("supports", "support", Support::new, Support::reload);
-    public static final IndirectHashCollection<Block, Support> CACHE = new IndirectHashCollection<>(s -> s.ingredient.getValidBlocks());
+    public static final BlockStateLookup<Support> CACHE = new BlockStateLookup<>(s -> s.ingredient.getValidBlocks(), Support::matches);
 
     /**
      * The maximum range of all supports, used for support radius checks.
@@ -91,14 +90,7 @@ public final class Support
     @Nullable
     public static Support get(BlockState state)
     {
-        for (Support support : CACHE.getAll(state.getBlock()))
-        {
-            if (support.matches(state))
-            {
-                return support;
-            }
-        }
-        return null;
+        return CACHE.get(state);
     }
 
     private static void reload()
@@ -33,7 +33,12 @@ public class Calendar implements ICalendar
 
     public Calendar()
     {
-        daysInMonth = TFCConfig.COMMON.defaultMonthLength.get();
+        this(TFCConfig.COMMON.defaultMonthLength.get());
+    }
+
+    protected Calendar(int daysInMonth)
+    {
+        this.daysInMonth = daysInMonth;
         playerTicks = 0;
         calendarTicks = (5L * daysInMonth * ICalendar.TICKS_IN_DAY) + (6 * ICalendar.TICKS_IN_HOUR);
         doDaylightCycle = true;
@@ -58,6 +63,29 @@ public class Calendar implements ICalendar
         return daysInMonth;
     }
 
+    /**
+     * Advances player time by one tick, as done at the start of each server tick.
+     * The server and client both use this, so the client can extrapolate exactly between syncs.
+     */
+    protected void advancePlayerTicks()
+    {
+        if (arePlayersLoggedOn)
+        {
+            playerTicks++;
+        }
+    }
+
+    /**
+     * Advances calendar time by one tick, as done on each overworld tick.
+     */
+    protected void advanceCalendarTicks()
+    {
+        if (doDaylightCycle && arePlayersLoggedOn)
+        {
+            calendarTicks++;
+        }
+    }
+
     public CompoundTag write()
     {
         CompoundTag nbt = new CompoundTag();
@@ -24,6 +24,8 @@ import net.minecraftforge.eventbus.api.IEventBus;
 
 import net.dries007.tfc.common.capabilities.food.TFCFoodData;
 import net.dries007.tfc.config.TFCConfig;
+import net.dries007.tfc.util.events.CalendarSkipEvent;
+import net.dries007.tfc.util.tracker.WorldTrackerCapability;
 
 /**
  * Event handler for calendar related ticking
@@ -44,6 +46,7 @@ public class CalendarEventHandler
         bus.addListener(CalendarEventHandler::onPlayerWakeUp);
         bus.addListener(CalendarEventHandler::onPlayerLoggedOut);
         bus.addListener(CalendarEventHandler::onPlayerLoggedIn);
+        bus.addListener(CalendarEventHandler::onCalendarSkip);
     }
 
     public static void onServerStart(ServerStartingEvent event)
@@ -54,7 +57,7 @@ public class CalendarEventHandler
     /**
      * Called from LOGICAL SERVER
      * Responsible for primary time tracking for player time
-     * Synced to client every second
+     * Synced to client at the end of the tick, when the calendar state changes
      *
      * @param event {@link TickEvent.ServerTickEvent}
      */
@@ -64,6 +67,10 @@ public class CalendarEventHandler
         {
             Calendars.SERVER.onServerTick();
         }
+        else
+        {
+            Calendars.SERVER.onServerTickEnd();
+        }
     }
 
     public static void onOverworldTick(TickEvent.WorldTickEvent event)
@@ -74,6 +81,22 @@ public class CalendarEventHandler
         }
     }
 
+    /**
+     * Catches up all registered calendar tickables, which do not tick themselves, when the player time jumps.
+     *
+     * @param event {@link CalendarSkipEvent}
+     */
+    public static void onCalendarSkip(CalendarSkipEvent event)
+    {
+        if (event.getPlayerTicks() != 0)
+        {
+            for (ServerLevel level : event.getServer().getAllLevels())
+            {
+                level.getCapability(WorldTrackerCapability.CAPABILITY).ifPresent(cap -> cap.updateCalendarTickables(level));
+            }
+        }
+    }
+
     /**
      * This allows beds to function correctly with TFCs calendar
      *
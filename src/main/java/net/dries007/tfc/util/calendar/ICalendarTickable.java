@@ -8,16 +8,21 @@ package net.dries007.tfc.util.calendar;
 
 import net.minecraft.world.level.block.entity.BlockEntity;
 
+import net.dries007.tfc.util.tracker.WorldTrackerCapability;
+
 /**
  * This is implemented on TileEntities that need to receive updates whenever the calendar changes drastically
  * Note: the default {@code update()} casts the implementor to {@link BlockEntity}
+ *
+ * Implementations either tick, and call {@link #checkForCalendarUpdate()} every tick, or do not tick, and instead register themselves with the world tracker when loaded via {@link #registerCalendarTickable()}.
+ * Registered block entities are caught up via {@link #catchUpCalendarUpdate()} when loaded, and whenever the calendar skips ahead.
  */
 public interface ICalendarTickable
 {
     /**
      * Here we check every tick for a calendar discrepancy. This only checks for differences in player time, and calls {@link ICalendarTickable#onCalendarUpdate(long playerTickDelta)} as necessary
      *
-     * Implementations MUST call {@code checkForCalendarUpdate()} in their {@code serverTick} method.
+     * Ticking implementations MUST call {@code checkForCalendarUpdate()} in their {@code serverTick} method.
      */
     default void checkForCalendarUpdate()
     {
@@ -35,6 +40,45 @@ public interface ICalendarTickable
         }
     }
 
+    /**
+     * Catches up to the current calendar time in a single update, for implementations which do not tick.
+     * Unlike {@link #checkForCalendarUpdate()}, this does not assume an update happened on the previous tick, so the full delta since the last update is passed to {@link #onCalendarUpdate(long)}
+     */
+    default void catchUpCalendarUpdate()
+    {
+        final long thisTick = Calendars.SERVER.getTicks();
+        final long lastTick = getLastUpdateTick();
+        if (lastTick != Integer.MIN_VALUE && thisTick > lastTick)
+        {
+            onCalendarUpdate(thisTick - lastTick);
+        }
+        setLastUpdateTick(thisTick);
+    }
+
+    /**
+     * Registers this block entity to receive calendar updates without ticking. Call from {@link BlockEntity#onLoad()}
+     */
+    default void registerCalendarTickable()
+    {
+        final BlockEntity te = ((BlockEntity) this);
+        if (te.getLevel() != null && !te.getLevel().isClientSide())
+        {
+            te.getLevel().getCapability(WorldTrackerCapability.CAPABILITY).ifPresent(cap -> cap.addCalendarTickable(te.getBlockPos()));
+        }
+    }
+
+    /**
+     * Removes this block entity from receiving calendar updates. Call from {@link BlockEntity#setRemoved()}
+     */
+    default void unregisterCalendarTickable()
+    {
+        final BlockEntity te = ((BlockEntity) this);
+        if (te.getLevel() != null && !te.getLevel().isClientSide())
+        {
+            te.getLevel().getCapability(WorldTrackerCapability.CAPABILITY).ifPresent(cap -> cap.removeCalendarTickable(te.getBlockPos()));
+        }
+    }
+
     /**
      * Called when the calendar updates (either player or calendar time)
      *
@@ -9,6 +9,7 @@ package net.dries007.tfc.util.calendar;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.level.GameRules;
+import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.network.PacketDistributor;
 import net.minecraftforge.server.ServerLifecycleHooks;
 
@@ -17,13 +18,14 @@ import net.dries007.tfc.mixin.accessor.GameRulesTypeAccessor;
 import net.dries007.tfc.network.CalendarUpdatePacket;
 import net.dries007.tfc.network.PacketHandler;
 import net.dries007.tfc.util.ReentrantRunnable;
+import net.dries007.tfc.util.events.CalendarSkipEvent;
 
 public class ServerCalendar extends Calendar
 {
-    public static final int SYNC_INTERVAL = 20; // Number of ticks between sync attempts. This mimics vanilla's time sync
+    public static final int SYNC_HEARTBEAT_INTERVAL = 20 * 15; // Number of ticks between syncs if the calendar state has not changed. Clients extrapolate in between, so this only corrects drift due to server lag
     public static final int TIME_DESYNC_THRESHOLD = 5;
 
-    private static final ReentrantRunnable DO_DAYLIGHT_CYCLE = new ReentrantRunnable(Calendars.SERVER::setDoDaylightCycle);
+    private static final ReentrantRunnable DO_DAYLIGHT_CYCLE = new ReentrantRunnable(() -> Calendars.SERVER.setDoDaylightCycle());
 
     public static void overrideDoDaylightCycleCallback()
     {
@@ -31,7 +33,16 @@ public class ServerCalendar extends Calendar
         type.accessor$setCallback(type.accessor$getCallback().andThen((server, t) -> DO_DAYLIGHT_CYCLE.run()));
     }
 
-    private int syncCounter;
+    private int version; // Incremented on any change to the calendar state that clients cannot extrapolate
+    private int syncedVersion;
+    private int ticksSinceSync;
+
+    public ServerCalendar() {}
+
+    ServerCalendar(int daysInMonth)
+    {
+        super(daysInMonth);
+    }
 
     /**
      * This runs a sequence of code, but first will set the calendar and player time by an offset
@@ -77,7 +88,8 @@ public class ServerCalendar extends Calendar
             world.setDayTime(currentDayTime + timeJump);
         }
 
-        sendUpdatePacket();
+        postSkipEvent(timeJump, timeJump);
+        markChanged();
     }
 
     /**
@@ -98,6 +110,8 @@ public class ServerCalendar extends Calendar
         calendarTicks += worldTimeJump;
         playerTicks += worldTimeJump;
 
+        postSkipEvent(worldTimeJump, worldTimeJump);
+        markChanged();
         return worldTimeJump;
     }
 
@@ -114,7 +128,7 @@ public class ServerCalendar extends Calendar
         this.daysInMonth = newMonthLength;
         this.calendarTicks = (baseMonths * daysInMonth + newDayOfMonth) * ICalendar.TICKS_IN_DAY + baseDayTime;
 
-        sendUpdatePacket();
+        markChanged();
     }
 
     public void setPlayersLoggedOn(boolean arePlayersLoggedOn)
@@ -132,7 +146,7 @@ public class ServerCalendar extends Calendar
             LOGGER.info("Forced doDaylightCycle to false as no players are logged in. Will revert to {} as soon as a player logs in.", doDaylightCycle);
         }
 
-        sendUpdatePacket();
+        markChanged();
     }
 
     public void setDoDaylightCycle()
@@ -145,7 +159,23 @@ public class ServerCalendar extends Calendar
             LOGGER.info("Forced doDaylightCycle to false as no players are logged in. Will revert to {} as soon as a player logs in.", doDaylightCycle);
         }
 
-        sendUpdatePacket();
+        markChanged();
+    }
+
+    /**
+     * Marks the calendar state as changed, in a way clients cannot extrapolate, so it will be synced at the end of the tick.
+     */
+    void markChanged()
+    {
+        version++;
+    }
+
+    void postSkipEvent(long playerTickJump, long calendarTickJump)
+    {
+        if (playerTickJump != 0 || calendarTickJump != 0)
+        {
+            MinecraftForge.EVENT_BUS.post(new CalendarSkipEvent(getServer(), playerTickJump, calendarTickJump));
+        }
     }
 
     /**
@@ -157,35 +187,37 @@ public class ServerCalendar extends Calendar
         DO_DAYLIGHT_CYCLE.runBlocking(() -> rules.getRule(GameRules.RULE_DAYLIGHT).set(false, server));
 
         reset(CalendarWorldData.get(server.overworld()).getCalendar());
-        sendUpdatePacket();
+        markChanged();
     }
 
     /**
-     * Called on server ticks, syncs to client
+     * Called at the start of server ticks, increments player time
      */
     void onServerTick()
     {
-        if (arePlayersLoggedOn)
-        {
-            playerTicks++;
-        }
-        syncCounter++;
-        if (syncCounter >= SYNC_INTERVAL)
+        advancePlayerTicks();
+    }
+
+    /**
+     * Called at the end of server ticks, syncs to client if the calendar state has changed this tick, or periodically to correct drift.
+     */
+    void onServerTickEnd()
+    {
+        ticksSinceSync++;
+        if (version != syncedVersion || ticksSinceSync >= SYNC_HEARTBEAT_INTERVAL)
         {
             sendUpdatePacket();
-            syncCounter = 0;
+            syncedVersion = version;
+            ticksSinceSync = 0;
         }
     }
 
     /**
-     * Called on each overworld tick, increments and syncs calendar time
+     * Called on each overworld tick, increments calendar time and checks it against world time
      */
     void onOverworldTick(ServerLevel world)
     {
-        if (doDaylightCycle && arePlayersLoggedOn)
-        {
-            calendarTicks++;
-        }
+        advanceCalendarTicks();
         long deltaWorldTime = (world.getDayTime() % ICalendar.TICKS_IN_DAY) - getCalendarDayTime();
         if (deltaWorldTime > TIME_DESYNC_THRESHOLD || deltaWorldTime < -TIME_DESYNC_THRESHOLD)
         {
@@ -217,8 +249,9 @@ public class ServerCalendar extends Calendar
                 // World time is ahead, so jump calendar
                 calendarTicks += deltaWorldTime;
                 LOGGER.info("Calendar is behind by {} ticks, jumping calendar time to catch up", deltaWorldTime);
+                postSkipEvent(0, deltaWorldTime);
             }
-            sendUpdatePacket();
+            markChanged();
         }
     }
 
@@ -132,6 +132,19 @@ public final class Climate
     public static void onChunkLoad(WorldGenLevel level, ChunkAccess chunk, ChunkData chunkData)
     {
         model(level.getLevel()).onChunkLoad(level, chunk, chunkData);
+        if (chunkData != ChunkData.EMPTY)
+        {
+            chunkData.setLastClimateUpdateTick(Calendars.SERVER.getCalendarTicks());
+        }
+    }
+
+    /**
+     * @return {@code true} if the chunk has not had its climate updated, via {@link #onChunkLoad(WorldGenLevel, ChunkAccess, ChunkData)}, for over a month.
+     */
+    public static boolean isClimateOutdated(ChunkData chunkData)
+    {
+        final ICalendar calendar = Calendars.SERVER;
+        return chunkData.getStatus() == ChunkData.Status.FULL && calendar.getCalendarTicks() - chunkData.getLastClimateUpdateTick() > ICalendar.getCalendarTicksInMonth(calendar.getCalendarDaysInMonth());
     }
 
     /**
@@ -106,6 +106,9 @@ public class OverworldClimateModel implements WorldGenClimateModel
     private Noise2D snowPatchNoise = (x, z) -> 0;
     private Noise2D icePatchNoise = (x, z) -> 0;
 
+    // The daily temperature only depends on the calendar hour, and is queried constantly (i.e. every environment tick), so the last value is cached
+    private volatile HourlyTemperature cachedDailyTemperature = new HourlyTemperature(Long.MIN_VALUE, 0);
+
     @Override
     public float getTemperature(@Nullable LevelReader level, BlockPos pos, ChunkData data, long calendarTicks, int daysInMonth)
     {
@@ -295,6 +298,7 @@ public class OverworldClimateModel implements WorldGenClimateModel
             this.climateSeed = OptionalLong.of(climateSeed);
             this.snowPatchNoise = new OpenSimplex2D(climateSeed + 72397489123L).octaves(2).spread(0.3f).scaled(-1, 1);
             this.icePatchNoise = new OpenSimplex2D(climateSeed + 192639412341L).octaves(3).spread(0.6f);
+            this.cachedDailyTemperature = new HourlyTemperature(Long.MIN_VALUE, 0);
         }
     }
 
@@ -343,6 +347,20 @@ public class OverworldClimateModel implements WorldGenClimateModel
      * Range: -3.9 - 3.9
      */
     private float calculateDailyTemperature(long calendarTime)
+    {
+        final long hour = ICalendar.getTotalHours(calendarTime);
+        final HourlyTemperature cached = cachedDailyTemperature;
+        if (cached.hour() == hour)
+        {
+            return cached.temperature();
+        }
+
+        final float temperature = calculateUncachedDailyTemperature(calendarTime);
+        cachedDailyTemperature = new HourlyTemperature(hour, temperature);
+        return temperature;
+    }
+
+    private float calculateUncachedDailyTemperature(long calendarTime)
     {
         // Hottest part of the day at 12, coldest at 0
         int hourOfDay = ICalendar.getHourOfDay(calendarTime);
@@ -366,4 +384,6 @@ public class OverworldClimateModel implements WorldGenClimateModel
         seed = LinearCongruentialGenerator.next(seed, salt);
         return new Random(seed);
     }
+
+    private record HourlyTemperature(long hour, float temperature) {}
 }
@@ -0,0 +1,70 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.util.collections;
+
+import java.util.Collection;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import javax.annotation.Nullable;
+
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.state.BlockState;
+
+/**
+ * A lookup of the first result matching a block state, in the order the results were loaded.
+ * Unlike {@link IndirectHashCollection}, which narrows down the results by block and then tests each in turn, this resolves every state of every valid block on reload, into a dense array indexed by the state's id in {@link Block#BLOCK_STATE_REGISTRY}. So a query is the registry's identity hash lookup of the state's id, and an array access, with no predicate tests.
+ * This is used for queries which happen many times per block, such as collapses, landslides and supports.
+ * Since the results are resolved against the current tags, this must be reloaded after both recipes (or data) and tags are reloaded.
+ */
+public class BlockStateLookup<R>
+{
+    private static final Object[] EMPTY = new Object[0];
+
+    private final Function<R, Iterable<? extends Block>> keyExtractor;
+    private final BiPredicate<R, BlockState> matcher;
+    private volatile Object[] results;
+
+    public BlockStateLookup(Function<R, Iterable<? extends Block>> keyExtractor, BiPredicate<R, BlockState> matcher)
+    {
+        this.keyExtractor = keyExtractor;
+        this.matcher = matcher;
+        this.results = EMPTY;
+    }
+
+    /**
+     * Resolves each state against the results, in order. Only the states of blocks named by a result are tested, so this is proportional to the number of states covered, not the size of the registry.
+     * The new array is swapped in once fully built, so concurrent queries always see a complete lookup.
+     */
+    public void reload(Collection<? extends R> values)
+    {
+        final Object[] building = new Object[Block.BLOCK_STATE_REGISTRY.size()];
+        for (R value : values)
+        {
+            for (Block block : keyExtractor.apply(value))
+            {
+                for (BlockState state : block.getStateDefinition().getPossibleStates())
+                {
+                    final int id = Block.BLOCK_STATE_REGISTRY.getId(state);
+                    if (id >= 0 && id < building.length && building[id] == null && matcher.test(value, state))
+                    {
+                        building[id] = value;
+                    }
+                }
+            }
+        }
+        results = building;
+    }
+
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public R get(BlockState state)
+    {
+        final Object[] results = this.results;
+        final int id = Block.BLOCK_STATE_REGISTRY.getId(state);
+        return id >= 0 && id < results.length ? (R) results[id] : null;
+    }
+}
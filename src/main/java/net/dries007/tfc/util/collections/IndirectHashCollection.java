@@ -9,8 +9,10 @@ package net.dries007.tfc.util.collections;
 import java.util.*;
 import java.util.function.Function;
 
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+
 /**
- * This is a structure which provides O(1), {@link HashMap} access of the wrapped {@code Map<Predicate<V>, R>}
+ * This is a structure which provides O(1), identity hash map access of the wrapped {@code Map<Predicate<V>, R>}
  * It does this by using the "indirect key", or {@code K}. By using two constructs:
  * - The key mapper, a {@code Function<V, K>}.
  * - And the key extractor, a{@code Function<R, Iterable<K>>}.
@@ -24,31 +26,39 @@ import java.util.function.Function;
  */
 public class IndirectHashCollection<K, R>
 {
-    private final Map<K, Collection<R>> indirectResultMap;
     private final Function<R, Iterable<? extends K>> keyExtractor;
+    private volatile Map<K, List<R>> indirectResultMap;
 
     public IndirectHashCollection(Function<R, Iterable<? extends K>> keyExtractor)
     {
         this.keyExtractor = keyExtractor;
-        this.indirectResultMap = new HashMap<>();
+        this.indirectResultMap = Collections.emptyMap();
     }
 
     /**
      * This is implemented for convenience rather than add / clear methods.
+     * The results are frozen on reload: keys are compared by identity (they are almost always registry objects), and each key maps to an immutable, array backed list.
+     * The new map is swapped in once fully built, so concurrent queries always see a complete collection.
      */
     public void reload(Collection<R> results)
     {
-        indirectResultMap.clear();
+        final Map<K, List<R>> building = new Reference2ObjectOpenHashMap<>();
         results.forEach(result -> {
             for (K directKey : keyExtractor.apply(result))
             {
-                indirectResultMap.computeIfAbsent(directKey, k -> new ArrayList<>()).add(result);
+                building.computeIfAbsent(directKey, k -> new ArrayList<>()).add(result);
             }
         });
+
+        final Reference2ObjectOpenHashMap<K, List<R>> frozen = new Reference2ObjectOpenHashMap<>(building.size());
+        building.forEach((key, values) -> frozen.put(key, List.copyOf(values)));
+        frozen.trim();
+        indirectResultMap = frozen;
     }
 
     public Collection<R> getAll(K key)
     {
-        return indirectResultMap.getOrDefault(key, Collections.emptyList());
+        final List<R> results = indirectResultMap.get(key);
+        return results != null ? results : Collections.emptyList();
     }
-}
\ No newline at end of file
+}
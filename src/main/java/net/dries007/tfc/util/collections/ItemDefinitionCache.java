@@ -0,0 +1,84 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.util.collections;
+
+import java.util.*;
+import javax.annotation.Nullable;
+
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import net.dries007.tfc.util.ItemDefinition;
+
+/**
+ * A lookup of the first {@link ItemDefinition} matching an item stack, in the order the definitions were loaded.
+ * On reload, the definitions are compiled per item: any definitions which depend on the stack (i.e. NBT sensitive ones) are kept in a fallback list, which is tested in order, up to the first {@link ItemDefinition#isUnconditional()} definition, which is stored directly.
+ * Any definitions after an unconditional one can never be reached, so are discarded. This means the common case, of an item with a single unconditional definition, resolves without iterating or testing any ingredients.
+ */
+public class ItemDefinitionCache<T extends ItemDefinition>
+{
+    private volatile Map<Item, Entry<T>> entries;
+
+    public ItemDefinitionCache()
+    {
+        this.entries = Collections.emptyMap();
+    }
+
+    public void reload(Collection<T> definitions)
+    {
+        final Map<Item, List<T>> conditional = new IdentityHashMap<>();
+        final Map<Item, T> unconditional = new IdentityHashMap<>();
+        for (T definition : definitions)
+        {
+            final boolean isUnconditional = definition.isUnconditional();
+            for (Item item : definition.getValidItems())
+            {
+                if (!unconditional.containsKey(item))
+                {
+                    if (isUnconditional)
+                    {
+                        unconditional.put(item, definition);
+                    }
+                    else
+                    {
+                        conditional.computeIfAbsent(item, k -> new ArrayList<>()).add(definition);
+                    }
+                }
+            }
+        }
+
+        final Reference2ObjectOpenHashMap<Item, Entry<T>> frozen = new Reference2ObjectOpenHashMap<>();
+        unconditional.forEach((item, definition) -> frozen.put(item, new Entry<>(List.copyOf(conditional.getOrDefault(item, Collections.emptyList())), definition)));
+        conditional.forEach((item, definitions) -> frozen.putIfAbsent(item, new Entry<>(List.copyOf(definitions), null)));
+        frozen.trim();
+        entries = frozen;
+    }
+
+    @Nullable
+    public T get(ItemStack stack)
+    {
+        final Entry<T> entry = entries.get(stack.getItem());
+        if (entry == null)
+        {
+            return null;
+        }
+        if (!entry.conditional.isEmpty())
+        {
+            for (T definition : entry.conditional)
+            {
+                if (definition.matches(stack))
+                {
+                    return definition;
+                }
+            }
+        }
+        return entry.unconditional;
+    }
+
+    record Entry<T>(List<T> conditional, @Nullable T unconditional) {}
+}
@@ -0,0 +1,53 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.util.events;
+
+import net.minecraft.server.MinecraftServer;
+import net.minecraftforge.eventbus.api.Event;
+
+import net.dries007.tfc.util.calendar.ServerCalendar;
+
+/**
+ * This event is fired on the server when the calendar jumps by more than a single tick, for instance when players sleep, or the time is changed via command.
+ * Block entities which do not tick, but track the calendar, should use this in order to catch up to the new calendar time.
+ *
+ * Note that this is not fired for temporary offsets applied via {@link ServerCalendar#runTransaction(long, long, Runnable)}.
+ */
+public class CalendarSkipEvent extends Event
+{
+    private final MinecraftServer server;
+    private final long playerTicks;
+    private final long calendarTicks;
+
+    public CalendarSkipEvent(MinecraftServer server, long playerTicks, long calendarTicks)
+    {
+        this.server = server;
+        this.playerTicks = playerTicks;
+        this.calendarTicks = calendarTicks;
+    }
+
+    public MinecraftServer getServer()
+    {
+        return server;
+    }
+
+    /**
+     * @return The number of player ticks which were skipped. May be negative if the time was set backwards.
+     */
+    public long getPlayerTicks()
+    {
+        return playerTicks;
+    }
+
+    /**
+     * @return The number of calendar ticks which were skipped. May be negative if the time was set backwards.
+     */
+    public long getCalendarTicks()
+    {
+        return calendarTicks;
+    }
+}
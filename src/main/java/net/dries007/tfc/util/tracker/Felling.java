@@ -0,0 +1,50 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.util.tracker;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.item.ItemStack;
+
+import net.dries007.tfc.util.AxeLoggingHelper;
+
+/**
+ * A tree which is too large to be felled in a single tick, and is instead felled over several ticks, in batches of {@link AxeLoggingHelper#LOGS_PER_TICK}.
+ * The axe is charged for each log as it is removed, so this holds the live axe stack, and is not saved. Any logs left standing after a reload can be felled again.
+ */
+public class Felling
+{
+    private final BlockPos origin;
+    private final long[] logs;
+    private final Player player;
+    private final ItemStack axe;
+    private final ItemStack tool;
+    private int index;
+
+    public Felling(BlockPos origin, long[] logs, int index, Player player, ItemStack axe, ItemStack tool)
+    {
+        this.origin = origin;
+        this.logs = logs;
+        this.index = index;
+        this.player = player;
+        this.axe = axe;
+        this.tool = tool;
+    }
+
+    /**
+     * Fells the next batch of logs.
+     *
+     * @return {@code true} if the felling is complete, or the axe has broken.
+     */
+    public boolean tick(ServerLevel level)
+    {
+        final int end = Math.min(logs.length, index + AxeLoggingHelper.LOGS_PER_TICK);
+        index = AxeLoggingHelper.fellLogs(level, origin, logs, index, end, player, axe, tool);
+        return index >= logs.length || axe.isEmpty();
+    }
+}
@@ -9,6 +9,7 @@ package net.dries007.tfc.util.tracker;
 import java.util.Collection;
 
 import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.Level;
 
 /**
@@ -38,5 +39,38 @@ public interface IWorldTracker
      */
     void addCollapsePositions(BlockPos centerPos, Collection<BlockPos> positions);
 
+    /**
+     * Starts felling a tree which was too large to be felled in a single tick. The remaining logs will be felled in batches over the next several ticks.
+     */
+    void addFelling(Felling felling);
+
+    /**
+     * Marks a loaded chunk to have its snow and ice updated for the current season, over the next several ticks.
+     */
+    void addOutdatedClimateChunk(ChunkPos pos);
+
+    /**
+     * Marks a newly placed fruit tree branch to continue growing, over the next several ticks.
+     */
+    void addFruitTreeGrowth(BlockPos pos);
+
+    /**
+     * Registers a block entity which tracks the calendar, but does not tick. It will be caught up to the current calendar time on the next world tick, and whenever the calendar skips ahead.
+     * Registration is not saved, block entities should register themselves whenever they are loaded.
+     *
+     * @see net.dries007.tfc.util.calendar.ICalendarTickable
+     */
+    void addCalendarTickable(BlockPos pos);
+
+    /**
+     * Removes a block entity previously registered with {@link #addCalendarTickable(BlockPos)}
+     */
+    void removeCalendarTickable(BlockPos pos);
+
+    /**
+     * Immediately catches up all registered calendar tickables to the current calendar time.
+     */
+    void updateCalendarTickables(Level world);
+
     void tick(Level world);
 }
\ No newline at end of file
@@ -7,6 +7,8 @@
 package net.dries007.tfc.util.tracker;
 
 import java.util.*;
+import java.util.function.LongConsumer;
+import java.util.function.LongPredicate;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
@@ -18,21 +20,32 @@ import net.minecraft.nbt.LongArrayTag;
 import net.minecraft.core.Direction;
 import net.minecraft.sounds.SoundSource;
 import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.level.LevelAccessor;
 import net.minecraft.world.level.Level;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.chunk.ImposterProtoChunk;
+import net.minecraft.world.level.chunk.LevelChunk;
 import net.minecraftforge.common.capabilities.Capability;
 import net.minecraftforge.common.capabilities.ICapabilitySerializable;
 import net.minecraftforge.common.util.LazyOptional;
 
+import it.unimi.dsi.fastutil.longs.LongLinkedOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import net.dries007.tfc.client.TFCSounds;
 import net.dries007.tfc.common.TFCTags;
+import net.dries007.tfc.common.blocks.plant.fruit.GrowingFruitTreeBranchBlock;
 import net.dries007.tfc.common.entities.TFCFallingBlockEntity;
 import net.dries007.tfc.common.recipes.CollapseRecipe;
 import net.dries007.tfc.common.recipes.LandslideRecipe;
 import net.dries007.tfc.config.TFCConfig;
 import net.dries007.tfc.util.Helpers;
+import net.dries007.tfc.util.calendar.ICalendarTickable;
+import net.dries007.tfc.util.climate.Climate;
 import net.dries007.tfc.util.collections.BufferedList;
 import net.dries007.tfc.util.loot.TFCLoot;
+import net.dries007.tfc.world.chunkdata.ChunkData;
 
 public class WorldTracker implements IWorldTracker, ICapabilitySerializable<CompoundTag>
 {
@@ -42,6 +55,11 @@ public class WorldTracker implements IWorldTracker, ICapabilitySerializable<Comp
     private final BufferedList<TickEntry> landslideTicks;
     private final BufferedList<BlockPos> isolatedPositions;
     private final List<Collapse> collapsesInProgress;
+    private final List<Felling> fellingsInProgress;
+    private final LongLinkedOpenHashSet outdatedClimateChunks;
+    private final LongLinkedOpenHashSet pendingFruitTreeGrowth;
+    private final LongSet calendarTickables;
+    private final LongSet pendingCalendarTickables;
 
     public WorldTracker()
     {
@@ -49,6 +67,11 @@ public class WorldTracker implements IWorldTracker, ICapabilitySerializable<Comp
         this.landslideTicks = new BufferedList<>();
         this.isolatedPositions = new BufferedList<>();
         this.collapsesInProgress = new ArrayList<>();
+        this.fellingsInProgress = new ArrayList<>();
+        this.outdatedClimateChunks = new LongLinkedOpenHashSet();
+        this.pendingFruitTreeGrowth = new LongLinkedOpenHashSet();
+        this.calendarTickables = new LongOpenHashSet();
+        this.pendingCalendarTickables = new LongOpenHashSet();
     }
 
     @Override
@@ -89,10 +112,71 @@ public class WorldTracker implements IWorldTracker, ICapabilitySerializable<Comp
         addCollapseData(new Collapse(centerPos, collapsePositions, maxRadiusSquared));
     }
 
+    @Override
+    public void addFelling(Felling felling)
+    {
+        fellingsInProgress.add(felling);
+    }
+
+    @Override
+    public void addOutdatedClimateChunk(ChunkPos pos)
+    {
+        outdatedClimateChunks.add(pos.toLong());
+    }
+
+    @Override
+    public void addFruitTreeGrowth(BlockPos pos)
+    {
+        pendingFruitTreeGrowth.add(pos.asLong());
+    }
+
+    @Override
+    public void addCalendarTickable(BlockPos pos)
+    {
+        calendarTickables.add(pos.asLong());
+        pendingCalendarTickables.add(pos.asLong());
+    }
+
+    @Override
+    public void removeCalendarTickable(BlockPos pos)
+    {
+        calendarTickables.remove(pos.asLong());
+        pendingCalendarTickables.remove(pos.asLong());
+    }
+
+    @Override
+    public void updateCalendarTickables(Level world)
+    {
+        pendingCalendarTickables.clear();
+        updateCalendarTickables(world, calendarTickables.toLongArray());
+    }
+
     public void tick(Level world)
     {
         if (!world.isClientSide())
         {
+            if (!pendingCalendarTickables.isEmpty())
+            {
+                final long[] pending = pendingCalendarTickables.toLongArray();
+                pendingCalendarTickables.clear();
+                updateCalendarTickables(world, pending);
+            }
+
+            if (!fellingsInProgress.isEmpty() && world instanceof ServerLevel serverLevel)
+            {
+                fellingsInProgress.removeIf(felling -> felling.tick(serverLevel));
+            }
+
+            if (!outdatedClimateChunks.isEmpty() && world instanceof ServerLevel serverLevel)
+            {
+                updateOutdatedClimateChunks(serverLevel);
+            }
+
+            if (!pendingFruitTreeGrowth.isEmpty() && world instanceof ServerLevel serverLevel)
+            {
+                updateFruitTreeGrowth(serverLevel);
+            }
+
             if (!collapsesInProgress.isEmpty() && random.nextInt(10) == 0)
             {
                 for (Collapse collapse : collapsesInProgress)
@@ -173,6 +257,8 @@ public class WorldTracker implements IWorldTracker, ICapabilitySerializable<Comp
             collapseNbt.add(collapse.serializeNBT());
         }
         nbt.put("collapsesInProgress", collapseNbt);
+
+        nbt.put("pendingFruitTreeGrowth", new LongArrayTag(pendingFruitTreeGrowth.toLongArray()));
         return nbt;
     }
 
@@ -184,6 +270,7 @@ public class WorldTracker implements IWorldTracker, ICapabilitySerializable<Comp
             landslideTicks.clear();
             collapsesInProgress.clear();
             isolatedPositions.clear();
+            pendingFruitTreeGrowth.clear();
 
             ListTag landslideNbt = nbt.getList("landslideTicks", Tag.TAG_COMPOUND);
             for (int i = 0; i < landslideNbt.size(); i++)
@@ -199,6 +286,11 @@ public class WorldTracker implements IWorldTracker, ICapabilitySerializable<Comp
             {
                 collapsesInProgress.add(new Collapse(collapseNbt.getCompound(i)));
             }
+
+            for (long pos : nbt.getLongArray("pendingFruitTreeGrowth"))
+            {
+                pendingFruitTreeGrowth.add(pos);
+            }
         }
     }
 
@@ -209,6 +301,81 @@ public class WorldTracker implements IWorldTracker, ICapabilitySerializable<Comp
         return WorldTrackerCapability.CAPABILITY.orEmpty(cap, capability);
     }
 
+    /**
+     * Catches up the calendar tickables at the given positions. This works on a copy of the positions, as updates may cause block entities to be removed.
+     */
+    private void updateCalendarTickables(Level world, long[] positions)
+    {
+        final BlockPos.MutableBlockPos cursor = new BlockPos.MutableBlockPos();
+        for (long pos : positions)
+        {
+            cursor.set(pos);
+            if (world.isLoaded(cursor) && world.getBlockEntity(cursor) instanceof ICalendarTickable tickable)
+            {
+                tickable.catchUpCalendarUpdate();
+            }
+        }
+    }
+
+    /**
+     * Grows fruit tree branches which were placed by another branch growing, up to a configurable number of branches per tick.
+     * Branches in unloaded chunks are dropped from the queue, they will continue growing via random ticks once loaded.
+     */
+    private void updateFruitTreeGrowth(ServerLevel level)
+    {
+        final BlockPos.MutableBlockPos cursor = new BlockPos.MutableBlockPos();
+        updateFruitTreeGrowth(TFCConfig.SERVER.fruitTreeGrowthUpdatesPerTick.get(), packed -> level.isLoaded(cursor.set(packed)), packed -> {
+            cursor.set(packed);
+            final BlockState state = level.getBlockState(cursor);
+            if (state.getBlock() instanceof GrowingFruitTreeBranchBlock branch)
+            {
+                branch.growFromElapsedTime(state, level, cursor.immutable(), level.getRandom());
+            }
+        });
+    }
+
+    void updateFruitTreeGrowth(int budget, LongPredicate isLoaded, LongConsumer grow)
+    {
+        pollWithBudget(pendingFruitTreeGrowth, budget, packed -> {
+            if (isLoaded.test(packed))
+            {
+                grow.accept(packed);
+            }
+        });
+    }
+
+    /**
+     * Updates snow and ice in chunks that were reloaded after a long time unloaded, up to a configurable number of chunks per tick.
+     * Chunks which have since been unloaded are skipped, they will be queued again when next loaded.
+     */
+    private void updateOutdatedClimateChunks(ServerLevel level)
+    {
+        pollWithBudget(outdatedClimateChunks, TFCConfig.SERVER.climateChunkUpdatesPerTick.get(), packed -> {
+            final LevelChunk chunk = level.getChunkSource().getChunkNow(ChunkPos.getX(packed), ChunkPos.getZ(packed));
+            if (chunk != null)
+            {
+                final ChunkData chunkData = ChunkData.get(level, chunk.getPos());
+                if (Climate.isClimateOutdated(chunkData))
+                {
+                    Climate.onChunkLoad(level, new ImposterProtoChunk(chunk, true), chunkData);
+                    chunk.setUnsaved(true); // Ensure the updated timestamp is saved
+                }
+            }
+        });
+    }
+
+    /**
+     * Removes and handles up to {@code budget} entries from the front of {@code queue}, in insertion order.
+     * Every entry counts against the budget, including those which are skipped (i.e. they are no longer loaded), so the work done per tick is bounded regardless of what is queued.
+     */
+    static void pollWithBudget(LongLinkedOpenHashSet queue, int budget, LongConsumer action)
+    {
+        for (int i = 0; i < budget && !queue.isEmpty(); i++)
+        {
+            action.accept(queue.removeFirstLong());
+        }
+    }
+
     private boolean isIsolated(LevelAccessor world, BlockPos pos)
     {
         for (Direction direction : Direction.values())
@@ -264,6 +264,7 @@ public class TFCChunkGenerator extends ChunkGenerator implements ChunkGeneratorE
 
     private final NoiseBasedChunkGenerator stupidMojangChunkGenerator; // Mojang fix your god awful deprecated carver nonsense
     private final FastConcurrentCache<TFCAquifer> aquiferCache;
+    private final FastConcurrentCache<CarverStart[]> carverStartCache; // Only the air carving step is used, see applyCarvers()
 
     private final Map<BiomeVariants, Supplier<BiomeNoiseSampler>> biomeNoiseSamplers;
     private final ChunkDataProvider chunkDataProvider;
@@ -283,10 +284,11 @@ public class TFCChunkGenerator extends ChunkGenerator implements ChunkGeneratorE
 
         this.stupidMojangChunkGenerator = new NoiseBasedChunkGenerator(parameters, biomeSource, seed, settings);
         this.aquiferCache = new FastConcurrentCache<>(256);
+        this.carverStartCache = new FastConcurrentCache<>(4096);
 
         this.biomeNoiseSamplers = collectBiomeNoiseSamplers(seed);
         this.chunkDataProvider = customBiomeSource.getChunkDataProvider();
-        this.surfaceManager = new SurfaceManager(seed);
+        this.surfaceManager = new SurfaceManager(seed, biomeSource.getRockLayerSettings());
         this.noiseSampler = new NoiseSampler(settings.get().noiseSettings(), seed, parameters);
     }
 
@@ -363,26 +365,12 @@ public class TFCChunkGenerator extends ChunkGenerator implements ChunkGeneratorE
             for (int offsetZ = -8; offsetZ <= 8; ++offsetZ)
             {
                 final ChunkPos offsetChunkPos = new ChunkPos(chunkPos.x + offsetX, chunkPos.z + offsetZ);
-                final ChunkAccess offsetChunk = level.getChunk(offsetChunkPos.x, offsetChunkPos.z);
-
-                @SuppressWarnings("deprecation")
-                final List<Supplier<ConfiguredWorldCarver<?>>> carvers = offsetChunk
-                    .carverBiome(() -> customBiomeSource.getNoiseBiomeIgnoreClimate(QuartPos.fromBlock(offsetChunkPos.getMinBlockX()), QuartPos.fromBlock(offsetChunkPos.getMinBlockZ())))
-                    .getGenerationSettings()
-                    .getCarvers(step);
-
-                final ListIterator<Supplier<ConfiguredWorldCarver<?>>> iterator = carvers.listIterator();
-                while (iterator.hasNext())
+                for (CarverStart start : getOrCreateCarverStarts(offsetChunkPos, fork, random, step))
                 {
-                    final int index = iterator.nextIndex();
-                    final ConfiguredWorldCarver<?> carver = iterator.next().get();
-                    final long chunkSeed = fork.at(offsetChunkPos.x, index, offsetChunkPos.z).nextLong();
-
-                    random.setSeed(chunkSeed);
-                    if (carver.isStartChunk(random))
-                    {
-                        carver.carve(context, chunk, customBiomeManager::getBiome, random, aquifer, offsetChunkPos, carvingMask);
-                    }
+                    // Re-seed and repeat the start check, so the random is in the same state as when the start was found
+                    random.setSeed(start.seed());
+                    start.carver().isStartChunk(random);
+                    start.carver().carve(context, chunk, customBiomeManager::getBiome, random, aquifer, offsetChunkPos, carvingMask);
                 }
             }
         }
@@ -463,7 +451,7 @@ public class TFCChunkGenerator extends ChunkGenerator implements ChunkGeneratorE
         // Unlock before surfaces are built, as they use locks directly
         sections.forEach(LevelChunkSection::release);
 
-        surfaceManager.buildSurface(actualLevel, chunk, getRockLayerSettings(), chunkData, filler.getLocalBiomes(), filler.getSlopeMap(), random, getSeaLevel(), settings.minY());
+        surfaceManager.buildSurface(actualLevel, chunk, chunkData, filler.getLocalBiomes(), filler.getSlopeMap(), random, getSeaLevel(), settings.minY());
 
         return CompletableFuture.completedFuture(chunk);
     }
@@ -573,6 +561,39 @@ public class TFCChunkGenerator extends ChunkGenerator implements ChunkGeneratorE
         return builder.build();
     }
 
+    /**
+     * Which carvers start in a chunk only depends on the position and seed, but every chunk within range of a start needs to know about it. So the start decisions are made once per chunk and shared, rather than re-querying the biome and re-seeding a random for each of the 289 neighbors of every chunk carved.
+     */
+    private CarverStart[] getOrCreateCarverStarts(ChunkPos chunkPos, PositionalRandomFactory fork, Random random, GenerationStep.Carving step)
+    {
+        CarverStart[] starts = carverStartCache.getIfPresent(chunkPos.x, chunkPos.z);
+        if (starts == null)
+        {
+            final List<Supplier<ConfiguredWorldCarver<?>>> carvers = customBiomeSource.getNoiseBiomeIgnoreClimate(QuartPos.fromBlock(chunkPos.getMinBlockX()), QuartPos.fromBlock(chunkPos.getMinBlockZ()))
+                .getGenerationSettings()
+                .getCarvers(step);
+
+            final List<CarverStart> found = new ArrayList<>();
+            final ListIterator<Supplier<ConfiguredWorldCarver<?>>> iterator = carvers.listIterator();
+            while (iterator.hasNext())
+            {
+                final int index = iterator.nextIndex();
+                final ConfiguredWorldCarver<?> carver = iterator.next().get();
+                final long chunkSeed = fork.at(chunkPos.x, index, chunkPos.z).nextLong();
+
+                random.setSeed(chunkSeed);
+                if (carver.isStartChunk(random))
+                {
+                    found.add(new CarverStart(carver, chunkSeed));
+                }
+            }
+
+            starts = found.toArray(new CarverStart[0]);
+            carverStartCache.set(chunkPos.x, chunkPos.z, starts);
+        }
+        return starts;
+    }
+
     private TFCAquifer getOrCreateAquifer(ChunkAccess chunk, ChunkNoiseSamplingSettings settings, ChunkBaseBlockSource baseBlockSource)
     {
         final ChunkPos chunkPos = chunk.getPos();
@@ -589,4 +610,9 @@ public class TFCChunkGenerator extends ChunkGenerator implements ChunkGeneratorE
         }
         return aquifer;
     }
+
+    /**
+     * A carver which starts in a chunk, and the seed it carves with, which is the same for every chunk it carves.
+     */
+    record CarverStart(ConfiguredWorldCarver<?> carver, long seed) {}
 }
\ No newline at end of file
@@ -10,10 +10,13 @@ import java.util.Objects;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.Tag;
+import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.LevelReader;
 import net.minecraft.world.level.chunk.ChunkAccess;
@@ -22,16 +25,36 @@ import net.minecraftforge.common.capabilities.Capability;
 import net.minecraftforge.common.capabilities.ICapabilitySerializable;
 import net.minecraftforge.common.util.LazyOptional;
 
+import io.netty.buffer.Unpooled;
 import net.dries007.tfc.network.ChunkWatchPacket;
+import net.dries007.tfc.util.climate.ClimateModel;
 import net.dries007.tfc.world.settings.RockLayerSettings;
 
 public class ChunkData implements ICapabilitySerializable<CompoundTag>
 {
     public static final ChunkData EMPTY = new ChunkData.Immutable();
 
+    private static final Logger LOGGER = LogManager.getLogger();
+
     private static final float UNKNOWN_RAINFALL = 250;
     private static final float UNKNOWN_TEMPERATURE = 10;
 
+    /**
+     * The version of the compact binary format written by {@link #serializeNBT()}. Chunk data without a version is read from the legacy NBT format.
+     */
+    private static final int FORMAT_VERSION = 1;
+
+    /**
+     * Average temperatures are quantized over this range when saved. Generated temperatures are well within this range.
+     */
+    private static final float MINIMUM_ENCODED_TEMPERATURE = -64f;
+    private static final float MAXIMUM_ENCODED_TEMPERATURE = 64f;
+
+    private static final int FLAG_RAINFALL = 1;
+    private static final int FLAG_TEMPERATURE = 1 << 1;
+    private static final int FLAG_ROCK_DATA = 1 << 2;
+    private static final int FLAG_AQUIFER_SURFACE_HEIGHT = 1 << 3;
+
     public static ChunkData get(LevelReader world, BlockPos pos)
     {
         return get(world, new ChunkPos(pos));
@@ -83,6 +106,7 @@ public class ChunkData implements ICapabilitySerializable<CompoundTag>
     private float forestWeirdness;
     private float forestDensity;
     private PlateTectonicsClassification plateTectonicsInfo;
+    private long lastClimateUpdateTick;
 
     public ChunkData(ChunkPos pos, RockLayerSettings rockLayerSettings)
     {
@@ -137,6 +161,19 @@ public class ChunkData implements ICapabilitySerializable<CompoundTag>
         this.rainfallLayer = rainfallLayer;
     }
 
+    /**
+     * @return The minimum and maximum rainfall anywhere in this chunk, see {@link LerpFloatLayer#getMin()}
+     */
+    public float getMinRainfall()
+    {
+        return rainfallLayer == null ? UNKNOWN_RAINFALL : rainfallLayer.getMin();
+    }
+
+    public float getMaxRainfall()
+    {
+        return rainfallLayer == null ? UNKNOWN_RAINFALL : rainfallLayer.getMax();
+    }
+
     public float getAverageTemp(BlockPos pos)
     {
         return getAverageTemp(pos.getX(), pos.getZ());
@@ -152,6 +189,19 @@ public class ChunkData implements ICapabilitySerializable<CompoundTag>
         this.temperatureLayer = temperatureLayer;
     }
 
+    /**
+     * @return The minimum and maximum average temperature anywhere in this chunk, see {@link LerpFloatLayer#getMin()}
+     */
+    public float getMinAverageTemp()
+    {
+        return temperatureLayer == null ? UNKNOWN_TEMPERATURE : temperatureLayer.getMin();
+    }
+
+    public float getMaxAverageTemp()
+    {
+        return temperatureLayer == null ? UNKNOWN_TEMPERATURE : temperatureLayer.getMax();
+    }
+
     public void setFloraData(ForestType forestType, float forestWeirdness, float forestDensity)
     {
         this.forestType = forestType;
@@ -198,6 +248,19 @@ public class ChunkData implements ICapabilitySerializable<CompoundTag>
         this.plateTectonicsInfo = plateTectonicsInfo;
     }
 
+    /**
+     * @return The calendar tick at which snow and ice in this chunk were last updated by {@link net.dries007.tfc.util.climate.Climate#onChunkLoad(net.minecraft.world.level.WorldGenLevel, ChunkAccess, ChunkData)}
+     */
+    public long getLastClimateUpdateTick()
+    {
+        return lastClimateUpdateTick;
+    }
+
+    public void setLastClimateUpdateTick(long lastClimateUpdateTick)
+    {
+        this.lastClimateUpdateTick = lastClimateUpdateTick;
+    }
+
     public Status getStatus()
     {
         return status;
@@ -249,26 +312,13 @@ public class ChunkData implements ICapabilitySerializable<CompoundTag>
         nbt.putByte("status", (byte) status.ordinal());
         if (status == Status.FULL)
         {
-            nbt.putByte("plateTectonicsInfo", (byte) plateTectonicsInfo.ordinal());
-            if (rainfallLayer != null)
-            {
-                nbt.put("rainfall", rainfallLayer.write());
-            }
-            if (temperatureLayer != null)
-            {
-                nbt.put("temperature", temperatureLayer.write());
-            }
-            nbt.putByte("forestType", (byte) forestType.ordinal());
-            nbt.putFloat("forestWeirdness", forestWeirdness);
-            nbt.putFloat("forestDensity", forestDensity);
-            if (rockData != null)
-            {
-                nbt.put("rockData", rockData.write(rockLayerSettings));
-            }
-            if (aquiferSurfaceHeight != null)
-            {
-                nbt.putIntArray("aquiferSurfaceHeight", aquiferSurfaceHeight);
-            }
+            final FriendlyByteBuf buffer = new FriendlyByteBuf(Unpooled.buffer());
+            encode(buffer);
+
+            final byte[] data = new byte[buffer.readableBytes()];
+            buffer.readBytes(data);
+            nbt.putByte("version", (byte) FORMAT_VERSION);
+            nbt.putByteArray("data", data);
         }
         return nbt;
     }
@@ -279,26 +329,97 @@ public class ChunkData implements ICapabilitySerializable<CompoundTag>
         status = Status.valueOf(nbt.getByte("status"));
         if (status == Status.FULL)
         {
-            plateTectonicsInfo = PlateTectonicsClassification.valueOf(nbt.getByte("plateTectonicsInfo"));
-            rainfallLayer = nbt.contains("rainfall") ? new LerpFloatLayer(nbt.getCompound("rainfall")) : null;
-            temperatureLayer = nbt.contains("temperature") ? new LerpFloatLayer(nbt.getCompound("temperature")) : null;
-            rockData = nbt.contains("rockData", Tag.TAG_COMPOUND) ? new RockData(nbt.getCompound("rockData"), rockLayerSettings) : null;
-            aquiferSurfaceHeight = nbt.contains("aquiferSurfaceHeight") ? nbt.getIntArray("aquiferSurfaceHeight") : null;
-            forestType = ForestType.valueOf(nbt.getByte("forestType"));
-            forestWeirdness = nbt.getFloat("forestWeirdness");
-            forestDensity = nbt.getFloat("forestDensity");
+            if (nbt.contains("data", Tag.TAG_BYTE_ARRAY))
+            {
+                final int version = nbt.getByte("version");
+                if (version != FORMAT_VERSION)
+                {
+                    // Discard the data, and leave the chunk data empty so it will be regenerated
+                    LOGGER.warn("Unknown chunk data format version {} at {}, chunk data will be regenerated", version, pos);
+                    status = Status.EMPTY;
+                    clear();
+                    return;
+                }
+                decode(new FriendlyByteBuf(Unpooled.wrappedBuffer(nbt.getByteArray("data"))));
+            }
+            else
+            {
+                // Chunk data saved before the compact format, which will be written in the compact format on next save
+                deserializeLegacyNBT(nbt);
+            }
         }
         else
         {
-            plateTectonicsInfo = PlateTectonicsClassification.OCEANIC;
-            rainfallLayer = null;
-            temperatureLayer = null;
-            rockData = null;
-            aquiferSurfaceHeight = null;
-            forestType = ForestType.NONE;
-            forestWeirdness = 0.5f;
-            forestDensity = 0.5f;
+            clear();
+        }
+    }
+
+    private void clear()
+    {
+        plateTectonicsInfo = PlateTectonicsClassification.OCEANIC;
+        rainfallLayer = null;
+        temperatureLayer = null;
+        rockData = null;
+        aquiferSurfaceHeight = null;
+        forestType = ForestType.NONE;
+        forestWeirdness = 0.5f;
+        forestDensity = 0.5f;
+        lastClimateUpdateTick = 0;
+    }
+
+    private void encode(FriendlyByteBuf buffer)
+    {
+        buffer.writeByte(plateTectonicsInfo.ordinal());
+        buffer.writeByte(forestType.ordinal());
+        buffer.writeFloat(forestWeirdness);
+        buffer.writeFloat(forestDensity);
+        buffer.writeLong(lastClimateUpdateTick);
+
+        buffer.writeByte((rainfallLayer != null ? FLAG_RAINFALL : 0) | (temperatureLayer != null ? FLAG_TEMPERATURE : 0) | (rockData != null ? FLAG_ROCK_DATA : 0) | (aquiferSurfaceHeight != null ? FLAG_AQUIFER_SURFACE_HEIGHT : 0));
+        if (rainfallLayer != null)
+        {
+            rainfallLayer.encodeQuantized(buffer, ClimateModel.MINIMUM_RAINFALL, ClimateModel.MAXIMUM_RAINFALL);
         }
+        if (temperatureLayer != null)
+        {
+            temperatureLayer.encodeQuantized(buffer, MINIMUM_ENCODED_TEMPERATURE, MAXIMUM_ENCODED_TEMPERATURE);
+        }
+        if (rockData != null)
+        {
+            rockData.encode(buffer, rockLayerSettings);
+        }
+        if (aquiferSurfaceHeight != null)
+        {
+            ChunkDataEncoding.writeIntArray(buffer, aquiferSurfaceHeight);
+        }
+    }
+
+    private void decode(FriendlyByteBuf buffer)
+    {
+        plateTectonicsInfo = PlateTectonicsClassification.valueOf(buffer.readByte());
+        forestType = ForestType.valueOf(buffer.readByte());
+        forestWeirdness = buffer.readFloat();
+        forestDensity = buffer.readFloat();
+        lastClimateUpdateTick = buffer.readLong();
+
+        final int flags = buffer.readByte();
+        rainfallLayer = (flags & FLAG_RAINFALL) != 0 ? new LerpFloatLayer(buffer, ClimateModel.MINIMUM_RAINFALL, ClimateModel.MAXIMUM_RAINFALL) : null;
+        temperatureLayer = (flags & FLAG_TEMPERATURE) != 0 ? new LerpFloatLayer(buffer, MINIMUM_ENCODED_TEMPERATURE, MAXIMUM_ENCODED_TEMPERATURE) : null;
+        rockData = (flags & FLAG_ROCK_DATA) != 0 ? new RockData(buffer, rockLayerSettings) : null;
+        aquiferSurfaceHeight = (flags & FLAG_AQUIFER_SURFACE_HEIGHT) != 0 ? ChunkDataEncoding.readIntArray(buffer) : null;
+    }
+
+    private void deserializeLegacyNBT(CompoundTag nbt)
+    {
+        plateTectonicsInfo = PlateTectonicsClassification.valueOf(nbt.getByte("plateTectonicsInfo"));
+        rainfallLayer = nbt.contains("rainfall") ? new LerpFloatLayer(nbt.getCompound("rainfall")) : null;
+        temperatureLayer = nbt.contains("temperature") ? new LerpFloatLayer(nbt.getCompound("temperature")) : null;
+        rockData = nbt.contains("rockData", Tag.TAG_COMPOUND) ? new RockData(nbt.getCompound("rockData"), rockLayerSettings) : null;
+        aquiferSurfaceHeight = nbt.contains("aquiferSurfaceHeight") ? nbt.getIntArray("aquiferSurfaceHeight") : null;
+        forestType = ForestType.valueOf(nbt.getByte("forestType"));
+        forestWeirdness = nbt.getFloat("forestWeirdness");
+        forestDensity = nbt.getFloat("forestDensity");
+        lastClimateUpdateTick = nbt.getLong("lastClimateUpdateTick");
     }
 
     @Override
@@ -368,6 +489,12 @@ public class ChunkData implements ICapabilitySerializable<CompoundTag>
             throw new UnsupportedOperationException("Tried to modify immutable chunk data");
         }
 
+        @Override
+        public void setLastClimateUpdateTick(long lastClimateUpdateTick)
+        {
+            throw new UnsupportedOperationException("Tried to modify immutable chunk data");
+        }
+
         @Override
         public void setStatus(Status status)
         {
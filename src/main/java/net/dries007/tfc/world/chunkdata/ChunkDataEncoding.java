@@ -0,0 +1,146 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.world.chunkdata;
+
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.util.Mth;
+
+/**
+ * Primitives for the compact binary encoding of {@link ChunkData}.
+ * Integer arrays are written with the smallest fixed width that fits every value, and palette indices are packed as nibbles or bytes where possible.
+ */
+final class ChunkDataEncoding
+{
+    private static final int WIDTH_BYTE = 0;
+    private static final int WIDTH_SHORT = 1;
+    private static final int WIDTH_INT = 2;
+
+    private static final int QUANTIZED_MAX = 0xFFFF;
+
+    static void writeIntArray(FriendlyByteBuf buffer, int[] array)
+    {
+        int min = 0, max = 0;
+        for (int value : array)
+        {
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+        }
+
+        final int width = min >= Byte.MIN_VALUE && max <= Byte.MAX_VALUE ? WIDTH_BYTE : (min >= Short.MIN_VALUE && max <= Short.MAX_VALUE ? WIDTH_SHORT : WIDTH_INT);
+        buffer.writeVarInt(array.length);
+        buffer.writeByte(width);
+        for (int value : array)
+        {
+            switch (width)
+            {
+                case WIDTH_BYTE -> buffer.writeByte(value);
+                case WIDTH_SHORT -> buffer.writeShort(value);
+                default -> buffer.writeInt(value);
+            }
+        }
+    }
+
+    static int[] readIntArray(FriendlyByteBuf buffer)
+    {
+        final int[] array = new int[buffer.readVarInt()];
+        final int width = buffer.readByte();
+        for (int i = 0; i < array.length; i++)
+        {
+            array[i] = switch (width)
+                {
+                    case WIDTH_BYTE -> buffer.readByte();
+                    case WIDTH_SHORT -> buffer.readShort();
+                    default -> buffer.readInt();
+                };
+        }
+        return array;
+    }
+
+    /**
+     * Writes an array of palette indices, each in [0, paletteSize). Uses four bits per index for palettes of up to 16 entries, eight bits for up to 256, and sixteen bits otherwise.
+     */
+    static void writePaletteIndices(FriendlyByteBuf buffer, int[] indices, int paletteSize)
+    {
+        if (paletteSize <= 16)
+        {
+            for (int i = 0; i < indices.length; i += 2)
+            {
+                final int high = i + 1 < indices.length ? indices[i + 1] : 0;
+                buffer.writeByte(indices[i] | (high << 4));
+            }
+        }
+        else if (paletteSize <= 256)
+        {
+            for (int index : indices)
+            {
+                buffer.writeByte(index);
+            }
+        }
+        else
+        {
+            for (int index : indices)
+            {
+                buffer.writeShort(index);
+            }
+        }
+    }
+
+    static int[] readPaletteIndices(FriendlyByteBuf buffer, int length, int paletteSize)
+    {
+        final int[] indices = new int[length];
+        if (paletteSize <= 16)
+        {
+            for (int i = 0; i < length; i += 2)
+            {
+                final int packed = buffer.readUnsignedByte();
+                indices[i] = packed & 15;
+                if (i + 1 < length)
+                {
+                    indices[i + 1] = packed >> 4;
+                }
+            }
+        }
+        else if (paletteSize <= 256)
+        {
+            for (int i = 0; i < length; i++)
+            {
+                indices[i] = buffer.readUnsignedByte();
+            }
+        }
+        else
+        {
+            for (int i = 0; i < length; i++)
+            {
+                indices[i] = buffer.readUnsignedShort();
+            }
+        }
+        return indices;
+    }
+
+    /**
+     * Writes a float, quantized to sixteen bits over the range [min, max]. Values outside the range are clamped.
+     */
+    static void writeQuantizedFloat(FriendlyByteBuf buffer, float value, float min, float max)
+    {
+        buffer.writeShort(Math.round(Mth.clamp((value - min) / (max - min), 0, 1) * QUANTIZED_MAX));
+    }
+
+    static float readQuantizedFloat(FriendlyByteBuf buffer, float min, float max)
+    {
+        return min + (max - min) * buffer.readUnsignedShort() / QUANTIZED_MAX;
+    }
+
+    /**
+     * @return The maximum error introduced by quantizing a value over [min, max].
+     */
+    static float quantizationError(float min, float max)
+    {
+        return 0.5f * (max - min) / QUANTIZED_MAX;
+    }
+
+    private ChunkDataEncoding() {}
+}
@@ -27,6 +27,17 @@ public class LerpFloatLayer
         valueSE = buffer.readFloat();
     }
 
+    public LerpFloatLayer(FriendlyByteBuf buffer, float min, float max)
+    {
+        valueNW = ChunkDataEncoding.readQuantizedFloat(buffer, min, max);
+        valueNE = ChunkDataEncoding.readQuantizedFloat(buffer, min, max);
+        valueSW = ChunkDataEncoding.readQuantizedFloat(buffer, min, max);
+        valueSE = ChunkDataEncoding.readQuantizedFloat(buffer, min, max);
+    }
+
+    /**
+     * Reads the legacy NBT format.
+     */
     public LerpFloatLayer(CompoundTag nbt)
     {
         valueNW = nbt.getFloat("nw");
@@ -54,14 +65,31 @@ public class LerpFloatLayer
         return Helpers.lerp4(valueNE, valueNW, valueSE, valueSW, tNS, tEW);
     }
 
-    public CompoundTag write()
+    /**
+     * @return The minimum value anywhere within the grid, which is the smallest corner, as values are interpolated between them.
+     */
+    public float getMin()
+    {
+        return Math.min(Math.min(valueNW, valueNE), Math.min(valueSW, valueSE));
+    }
+
+    /**
+     * @return The maximum value anywhere within the grid, which is the largest corner.
+     */
+    public float getMax()
+    {
+        return Math.max(Math.max(valueNW, valueNE), Math.max(valueSW, valueSE));
+    }
+
+    /**
+     * Writes this layer with each corner quantized to sixteen bits over [min, max], for compact storage.
+     */
+    public void encodeQuantized(FriendlyByteBuf buffer, float min, float max)
     {
-        final CompoundTag nbt = new CompoundTag();
-        nbt.putFloat("nw", valueNW);
-        nbt.putFloat("ne", valueNE);
-        nbt.putFloat("sw", valueSW);
-        nbt.putFloat("se", valueSE);
-        return nbt;
+        ChunkDataEncoding.writeQuantizedFloat(buffer, valueNW, min, max);
+        ChunkDataEncoding.writeQuantizedFloat(buffer, valueNE, min, max);
+        ChunkDataEncoding.writeQuantizedFloat(buffer, valueSW, min, max);
+        ChunkDataEncoding.writeQuantizedFloat(buffer, valueSE, min, max);
     }
 
     public void encode(FriendlyByteBuf buffer)
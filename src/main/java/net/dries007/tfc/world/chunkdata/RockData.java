@@ -6,12 +6,16 @@
 
 package net.dries007.tfc.world.chunkdata;
 
+import java.util.ArrayList;
 import java.util.List;
 import javax.annotation.Nullable;
 
 import net.minecraft.core.BlockPos;
 import net.minecraft.nbt.CompoundTag;
+import net.minecraft.network.FriendlyByteBuf;
 
+import it.unimi.dsi.fastutil.objects.Reference2IntMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
 import net.dries007.tfc.world.settings.RockLayerSettings;
 import net.dries007.tfc.world.settings.RockSettings;
 
@@ -42,6 +46,30 @@ public class RockData
         this.surfaceHeight = null;
     }
 
+    public RockData(FriendlyByteBuf buffer, RockLayerSettings settings)
+    {
+        this.bottomLayer = new RockSettings[SIZE];
+        this.middleLayer = new RockSettings[SIZE];
+        this.topLayer = new RockSettings[SIZE];
+
+        final List<RockSettings> rocks = settings.getRocks();
+        final RockSettings[] localPalette = new RockSettings[buffer.readVarInt()];
+        for (int i = 0; i < localPalette.length; i++)
+        {
+            localPalette[i] = rocks.get(buffer.readVarInt());
+        }
+
+        read(bottomLayer, ChunkDataEncoding.readPaletteIndices(buffer, SIZE, localPalette.length), localPalette);
+        read(middleLayer, ChunkDataEncoding.readPaletteIndices(buffer, SIZE, localPalette.length), localPalette);
+        read(topLayer, ChunkDataEncoding.readPaletteIndices(buffer, SIZE, localPalette.length), localPalette);
+
+        rockLayerHeight = ChunkDataEncoding.readIntArray(buffer);
+        surfaceHeight = buffer.readBoolean() ? ChunkDataEncoding.readIntArray(buffer) : null;
+    }
+
+    /**
+     * Reads the legacy NBT format, where each layer is stored as an array of indices into {@link RockLayerSettings#getRocks()}.
+     */
     public RockData(CompoundTag nbt, RockLayerSettings settings)
     {
         this.bottomLayer = new RockSettings[SIZE];
@@ -63,25 +91,52 @@ public class RockData
 
     public RockSettings getRock(int x, int y, int z)
     {
-        assert surfaceHeight != null;
-
-        final int i = index(x, z);
-        final int sh = surfaceHeight[i];
-        final int rh = rockLayerHeight[i];
-        if (y > (int) (SEA_LEVEL_Y + 46 - 0.2 * sh + rh)) // todo: un-hardcode these, keep a sea level reference held by the rock data instance.
+        if (y > getTopLayerHeight(x, z))
         {
-            return topLayer[i];
+            return getTopRock(x, z);
         }
-        else if (y > (int) (SEA_LEVEL_Y - 34 - 0.2 * sh + rh))
+        else if (y > getMiddleLayerHeight(x, z))
         {
-            return middleLayer[i];
+            return getMiddleRock(x, z);
         }
         else
         {
-            return bottomLayer[i];
+            return getBottomRock(x, z);
         }
     }
 
+    /**
+     * @return The y level in this column, above which the top layer rock is used.
+     */
+    public int getTopLayerHeight(int x, int z)
+    {
+        assert surfaceHeight != null;
+
+        final int i = index(x, z);
+        return (int) (SEA_LEVEL_Y + 46 - 0.2 * surfaceHeight[i] + rockLayerHeight[i]); // todo: un-hardcode these, keep a sea level reference held by the rock data instance.
+    }
+
+    /**
+     * @return The y level in this column, above which (up to the top layer) the middle layer rock is used.
+     */
+    public int getMiddleLayerHeight(int x, int z)
+    {
+        assert surfaceHeight != null;
+
+        final int i = index(x, z);
+        return (int) (SEA_LEVEL_Y - 34 - 0.2 * surfaceHeight[i] + rockLayerHeight[i]);
+    }
+
+    public RockSettings getTopRock(int x, int z)
+    {
+        return topLayer[index(x, z)];
+    }
+
+    public RockSettings getMiddleRock(int x, int z)
+    {
+        return middleLayer[index(x, z)];
+    }
+
     public RockSettings getBottomRock(int x, int z)
     {
         return bottomLayer[index(x, z)];
@@ -92,32 +147,50 @@ public class RockData
         this.surfaceHeight = surfaceHeightMap;
     }
 
-    public CompoundTag write(RockLayerSettings settings)
+    /**
+     * Writes the compact form of this rock data. Rocks are written as indices into a palette local to this chunk, which typically fit in four bits.
+     */
+    public void encode(FriendlyByteBuf buffer, RockLayerSettings settings)
     {
-        final CompoundTag nbt = new CompoundTag();
+        final Reference2IntMap<RockSettings> localIndices = new Reference2IntOpenHashMap<>();
+        final List<RockSettings> localPalette = new ArrayList<>();
+        final int[] bottomIndices = toLocalIndices(bottomLayer, localIndices, localPalette);
+        final int[] middleIndices = toLocalIndices(middleLayer, localIndices, localPalette);
+        final int[] topIndices = toLocalIndices(topLayer, localIndices, localPalette);
+
+        buffer.writeVarInt(localPalette.size());
+        for (RockSettings rock : localPalette)
+        {
+            buffer.writeVarInt(settings.getRockIndex(rock));
+        }
 
-        // Record the raw byte values
-        nbt.putIntArray("bottomLayer", write(bottomLayer, settings));
-        nbt.putIntArray("middleLayer", write(middleLayer, settings));
-        nbt.putIntArray("topLayer", write(topLayer, settings));
+        ChunkDataEncoding.writePaletteIndices(buffer, bottomIndices, localPalette.size());
+        ChunkDataEncoding.writePaletteIndices(buffer, middleIndices, localPalette.size());
+        ChunkDataEncoding.writePaletteIndices(buffer, topIndices, localPalette.size());
 
-        nbt.putIntArray("height", rockLayerHeight);
+        ChunkDataEncoding.writeIntArray(buffer, rockLayerHeight);
+        buffer.writeBoolean(surfaceHeight != null);
         if (surfaceHeight != null)
         {
-            nbt.putIntArray("surfaceHeight", surfaceHeight);
+            ChunkDataEncoding.writeIntArray(buffer, surfaceHeight);
         }
-        return nbt;
     }
 
-    private int[] write(RockSettings[] layer, RockLayerSettings settings)
+    private int[] toLocalIndices(RockSettings[] layer, Reference2IntMap<RockSettings> localIndices, List<RockSettings> localPalette)
     {
-        final int[] array = new int[SIZE];
-        final List<RockSettings> palette = settings.getRocks();
-        for (int i = 0; i < array.length; i++)
+        final int[] indices = new int[SIZE];
+        for (int i = 0; i < SIZE; i++)
         {
-            array[i] = palette.indexOf(layer[i]); // indexOf() is O(n) but should be fast enough for our purposes, this isn't called that often
+            int index = localIndices.getOrDefault(layer[i], -1);
+            if (index == -1)
+            {
+                index = localPalette.size();
+                localIndices.put(layer[i], index);
+                localPalette.add(layer[i]);
+            }
+            indices[i] = index;
         }
-        return array;
+        return indices;
     }
 
     private void read(RockSettings[] layer, int[] data, RockLayerSettings settings)
@@ -130,4 +203,12 @@ public class RockData
             layer[i] = palette.get(data[i]);
         }
     }
-}
\ No newline at end of file
+
+    private void read(RockSettings[] layer, int[] indices, RockSettings[] localPalette)
+    {
+        for (int i = 0; i < SIZE; i++)
+        {
+            layer[i] = localPalette[indices[i]];
+        }
+    }
+}
@@ -10,12 +10,15 @@ import java.util.Map;
 import java.util.stream.Collectors;
 
 import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
 import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.EmptyBlockGetter;
 import net.minecraft.world.level.WorldGenLevel;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.Blocks;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.chunk.LevelChunkSection;
 import net.minecraft.world.level.levelgen.Aquifer;
 import net.minecraft.world.level.levelgen.Heightmap;
 import net.minecraft.world.level.levelgen.feature.Feature;
@@ -33,6 +36,10 @@ import net.dries007.tfc.world.settings.RockSettings;
 
 public class ErosionFeature extends Feature<NoneFeatureConfiguration>
 {
+    private static final int LANDSLIDE = 1; // The state has a landslide recipe
+    private static final int FRAGILE = 2; // The state can be fallen through
+    private static final int DYNAMIC = 4; // If the state can be fallen through depends on the position
+
     public ErosionFeature(Codec<NoneFeatureConfiguration> codec)
     {
         super(codec);
@@ -57,6 +64,15 @@ public class ErosionFeature extends Feature<NoneFeatureConfiguration>
         // final BaseBlockSource blockSource = ex.createBaseStoneSource(level, chunk);
         final Map<Block, Block> hardeningBlocks = rockSettings.getRocks().stream().collect(Collectors.toMap(RockSettings::raw, RockSettings::hardened));
 
+        // Sections where every state is sturdy, and cannot landslide, don't need to be iterated. Only the block at the bottom of the section matters, for hardening.
+        final boolean[] sturdySections = new boolean[chunk.getSectionsCount()];
+        for (int i = 0; i < sturdySections.length; i++)
+        {
+            final LevelChunkSection section = chunk.getSection(i);
+            sturdySections[i] = !section.hasOnlyAir() && !section.maybeHas(state -> getFlags(state) != 0);
+        }
+
+        final int minY = context.chunkGenerator().getMinY();
         for (int x = 0; x < 16; x++)
         {
             for (int z = 0; z < 16; z++)
@@ -69,87 +85,131 @@ public class ErosionFeature extends Feature<NoneFeatureConfiguration>
 
                 mutablePos.set(chunkX + x, baseHeight, chunkZ + z);
 
-                for (int y = baseHeight; y >= context.chunkGenerator().getMinY(); y--)
+                // Above the build height is always air, which has no effect at the top of the column
+                int y = Math.min(baseHeight, chunk.getMaxBuildHeight() - 1);
+                while (y >= minY)
                 {
-                    mutablePos.setY(y);
+                    final int sectionIndex = chunk.getSectionIndex(y);
+                    final LevelChunkSection section = chunk.getSection(sectionIndex);
+                    final int sectionMinY = Math.max(minY, SectionPos.sectionToBlockCoord(chunk.getSectionYFromSectionIndex(sectionIndex)));
+                    if (sturdySections[sectionIndex])
+                    {
+                        // Every block is sturdy, so the column is safe down to the bottom of this section
+                        prevBlockCanLandslide = false;
+                        lastSafeY = sectionMinY;
+                        prevBlockHardened = hardeningBlocks.get(section.getBlockState(x, sectionMinY & 15, z).getBlock());
+                        y = sectionMinY - 1;
+                        continue;
+                    }
 
-                    BlockState stateAt = level.getBlockState(mutablePos);
-                    LandslideRecipe recipe = stateAt.isAir() ? null : LandslideRecipe.getRecipe(stateAt);
-                    boolean stateAtIsFragile = stateAt.isAir() || TFCFallingBlockEntity.canFallThrough(level, mutablePos, stateAt);
-                    if (prevBlockCanLandslide)
+                    for (; y >= sectionMinY; y--)
                     {
-                        // Continuing a collapsible downwards
-                        // If the block is also collapsible, we just continue until we reach either the bottom (solid) or something to collapse through
-                        if (recipe == null)
+                        mutablePos.setY(y);
+
+                        final BlockState stateAt = section.getBlockState(x, y & 15, z);
+                        final int flags = getFlags(stateAt);
+                        final boolean stateAtCanLandslide = (flags & LANDSLIDE) != 0;
+                        final boolean stateAtIsFragile = (flags & DYNAMIC) != 0 ? TFCFallingBlockEntity.canFallThrough(level, mutablePos, stateAt) : (flags & FRAGILE) != 0;
+                        if (prevBlockCanLandslide)
                         {
-                            // This block is sturdy, preventing the column from collapsing
-                            // However, we need to make sure we can't collapse *through* this block
-                            if (stateAtIsFragile)
+                            // Continuing a collapsible downwards
+                            // If the block is also collapsible, we just continue until we reach either the bottom (solid) or something to collapse through
+                            if (!stateAtCanLandslide)
                             {
-                                // We can collapse through the current block. aka, from [y + 1, lastSafeY) need to collapse
-                                // If we would only collapse one block, we remove it. Otherwise, we replace the lowest block with hardened stone
-                                if (lastSafeY > y + 2)
+                                // This block is sturdy, preventing the column from collapsing
+                                // However, we need to make sure we can't collapse *through* this block
+                                if (stateAtIsFragile)
                                 {
-                                    // More than one block to collapse, so we can support instead
-                                    mutablePos.setY(y + 1);
-                                    level.setBlock(mutablePos, rockData.getRock(x, y + 1, z).hardened().defaultBlockState(), 2);
-                                }
-                                else
-                                {
-                                    // See if we can delete the block above (if the above of that is air)
-                                    // We then choose either a solid or full block by passing in a positive or negative value to the aquifer's computeState
-                                    mutablePos.setY(y + 2);
-                                    if (level.getBlockState(mutablePos).isAir())
+                                    // We can collapse through the current block. aka, from [y + 1, lastSafeY) need to collapse
+                                    // If we would only collapse one block, we remove it. Otherwise, we replace the lowest block with hardened stone
+                                    if (lastSafeY > y + 2)
                                     {
+                                        // More than one block to collapse, so we can support instead
                                         mutablePos.setY(y + 1);
-                                        // todo
-                                        BlockState airOrLiquidState = Blocks.AIR.defaultBlockState(); // aquifer.computeState(blockSource, chunkX + x, y + 1, chunkZ + z, -1);
-                                        level.setBlock(mutablePos, airOrLiquidState, 2);
+                                        level.setBlock(mutablePos, rockData.getRock(x, y + 1, z).hardened().defaultBlockState(), 2);
                                     }
                                     else
                                     {
-                                        // Otherwise, we have to support the block, and the only way we can is by placing stone.
-                                        mutablePos.setY(y + 1);
-                                        level.setBlock(mutablePos, rockData.getRock(x, y + 1, z).hardened().defaultBlockState(),2);
+                                        // See if we can delete the block above (if the above of that is air)
+                                        // We then choose either a solid or full block by passing in a positive or negative value to the aquifer's computeState
+                                        mutablePos.setY(y + 2);
+                                        if (level.getBlockState(mutablePos).isAir())
+                                        {
+                                            mutablePos.setY(y + 1);
+                                            // todo
+                                            BlockState airOrLiquidState = Blocks.AIR.defaultBlockState(); // aquifer.computeState(blockSource, chunkX + x, y + 1, chunkZ + z, -1);
+                                            level.setBlock(mutablePos, airOrLiquidState, 2);
+                                        }
+                                        else
+                                        {
+                                            // Otherwise, we have to support the block, and the only way we can is by placing stone.
+                                            mutablePos.setY(y + 1);
+                                            level.setBlock(mutablePos, rockData.getRock(x, y + 1, z).hardened().defaultBlockState(),2);
+                                        }
                                     }
                                 }
+                                prevBlockCanLandslide = false;
+                                lastSafeY = y;
                             }
-                            prevBlockCanLandslide = false;
-                            lastSafeY = y;
-                        }
-                    }
-                    else
-                    {
-                        // Last block is sturdy
-                        if (recipe == null)
-                        {
-                            // This block is sturdy
-                            lastSafeY = y;
                         }
                         else
                         {
-                            // This block can collapse. lastSafeY will already be y + 1, so all we need to mark is the prev flag for next iteration
-                            prevBlockCanLandslide = true;
+                            // Last block is sturdy
+                            if (!stateAtCanLandslide)
+                            {
+                                // This block is sturdy
+                                lastSafeY = y;
+                            }
+                            else
+                            {
+                                // This block can collapse. lastSafeY will already be y + 1, so all we need to mark is the prev flag for next iteration
+                                prevBlockCanLandslide = true;
+                            }
                         }
-                    }
 
-                    // Update stone from raw -> hardened
-                    if (stateAtIsFragile)
-                    {
-                        if (prevBlockHardened != null)
+                        // Update stone from raw -> hardened
+                        if (stateAtIsFragile)
                         {
-                            mutablePos.setY(y + 1);
-                            level.setBlock(mutablePos, prevBlockHardened.defaultBlockState(), 2);
+                            if (prevBlockHardened != null)
+                            {
+                                mutablePos.setY(y + 1);
+                                level.setBlock(mutablePos, prevBlockHardened.defaultBlockState(), 2);
+                            }
+                            prevBlockHardened = null;
+                        }
+                        else
+                        {
+                            prevBlockHardened = hardeningBlocks.get(stateAt.getBlock());
                         }
-                        prevBlockHardened = null;
-                    }
-                    else
-                    {
-                        prevBlockHardened = hardeningBlocks.get(stateAt.getBlock());
                     }
                 }
             }
         }
         return true;
     }
+
+    /**
+     * The erosion related properties of a state. Landslide recipes are a direct lookup by state, and without a dynamic shape, the support shape is cached on the state, so this doesn't depend on the position.
+     */
+    private static int getFlags(BlockState state)
+    {
+        if (state.isAir())
+        {
+            return FRAGILE;
+        }
+        int flags = 0;
+        if (LandslideRecipe.getRecipe(state) != null)
+        {
+            flags |= LANDSLIDE;
+        }
+        if (state.getBlock().hasDynamicShape())
+        {
+            flags |= DYNAMIC;
+        }
+        else if (TFCFallingBlockEntity.canFallThrough(EmptyBlockGetter.INSTANCE, BlockPos.ZERO, state))
+        {
+            flags |= FRAGILE;
+        }
+        return flags;
+    }
 }
\ No newline at end of file
@@ -39,6 +39,7 @@ public class SoilDiscFeature extends Feature<SoilDiscConfig>
         final int radius = config.getRadius(random);
         final int radiusSquared = radius * radius;
         final BlockPos.MutableBlockPos mutablePos = new BlockPos.MutableBlockPos();
+        final VolumeAccess volume = new VolumeAccess(world, state -> config.getState(state) != null);
         for (int x = pos.getX() - radius; x <= pos.getX() + radius; ++x)
         {
             for (int z = pos.getZ() - radius; z <= pos.getZ() + radius; ++z)
@@ -50,12 +51,16 @@ public class SoilDiscFeature extends Feature<SoilDiscConfig>
                     for (int y = pos.getY() - config.getHeight(); y <= pos.getY() + config.getHeight(); ++y)
                     {
                         mutablePos.set(x, y, z);
+                        if (!volume.mayMatch(mutablePos))
+                        {
+                            continue;
+                        }
 
-                        final BlockState stateAt = world.getBlockState(mutablePos);
+                        final BlockState stateAt = volume.getBlockState(mutablePos);
                         final BlockState stateReplacement = config.getState(stateAt);
                         if (stateReplacement != null)
                         {
-                            world.setBlock(mutablePos, stateReplacement, 2);
+                            volume.setBlock(mutablePos, stateReplacement, 2);
                             placed = true;
                         }
                     }
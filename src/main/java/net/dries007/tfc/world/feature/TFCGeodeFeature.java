@@ -111,6 +111,7 @@ public class TFCGeodeFeature extends Feature<TFCGeodeConfig>
         }
 
         final Predicate<BlockState> predicate = isReplaceable(BlockTags.FEATURES_CANNOT_REPLACE.getName());
+        final VolumeAccess volume = new VolumeAccess(level);
 
         for (BlockPos pos : BlockPos.betweenClosed(origin.offset(-16, -16, -16), origin.offset(16, 16, 16)))
         {
@@ -132,7 +133,7 @@ public class TFCGeodeFeature extends Feature<TFCGeodeConfig>
             {
                 if (cracked && crackWeight >= distWeight && pointAt < fillLimit)
                 {
-                    this.safeSetBlock(level, pos, Blocks.AIR.defaultBlockState(), predicate);
+                    volume.safeSetBlock(pos, Blocks.AIR.defaultBlockState(), predicate);
 
                     for (Direction d : Helpers.DIRECTIONS)
                     {
@@ -146,19 +147,19 @@ public class TFCGeodeFeature extends Feature<TFCGeodeConfig>
                 }
                 else if (pointAt >= fillLimit)
                 {
-                    this.safeSetBlock(level, pos, Blocks.AIR.defaultBlockState(), predicate);
+                    volume.safeSetBlock(pos, Blocks.AIR.defaultBlockState(), predicate);
                 }
                 else if (pointAt >= innerLimit)
                 {
-                    this.safeSetBlock(level, pos, config.inner().getRandomValue(random).orElseThrow(), predicate);
+                    volume.safeSetBlock(pos, config.inner().getRandomValue(random).orElseThrow(), predicate);
                 }
                 else if (pointAt >= middleLimit)
                 {
-                    this.safeSetBlock(level, pos, config.middle(), predicate);
+                    volume.safeSetBlock(pos, config.middle(), predicate);
                 }
                 else if (pointAt >= outerLimit)
                 {
-                    this.safeSetBlock(level, pos, config.outer(), predicate);
+                    volume.safeSetBlock(pos, config.outer(), predicate);
                 }
             }
         }
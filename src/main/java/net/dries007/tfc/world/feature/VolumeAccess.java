@@ -0,0 +1,124 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.world.feature;
+
+import java.util.function.Predicate;
+import javax.annotation.Nullable;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.world.level.WorldGenLevel;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+
+import it.unimi.dsi.fastutil.longs.Long2BooleanMap;
+import it.unimi.dsi.fastutil.longs.Long2BooleanOpenHashMap;
+
+/**
+ * Block access for features which read, and replace, many blocks within a small volume (spheres, discs, blobs).
+ * Reads go directly to the chunk section containing the position, which is resolved once and reused until the volume moves into a different section.
+ * Sections can also be tested against a filter by their palette, so features which only replace certain states can skip sections which cannot contain any of them.
+ * Writes go through the level one block at a time, as chunks need to update their heightmaps, lighting and post processing. Features which only write blocks, such as {@link BouldersFeature}, gain nothing from this and place through the level directly.
+ */
+public final class VolumeAccess
+{
+    private final WorldGenLevel level;
+    private final Predicate<BlockState> filter;
+    private final Long2BooleanMap sectionMayMatch;
+
+    @Nullable private LevelChunkSection section;
+    private long sectionKey;
+    private long mayMatchKey;
+    private boolean mayMatch;
+
+    public VolumeAccess(WorldGenLevel level)
+    {
+        this(level, state -> true);
+    }
+
+    /**
+     * @param filter The states that this feature can replace. Sections are only ever checked once against this, so it must be constant, and any writes through this must only happen in sections which already may match.
+     */
+    public VolumeAccess(WorldGenLevel level, Predicate<BlockState> filter)
+    {
+        this.level = level;
+        this.filter = filter;
+        this.sectionMayMatch = new Long2BooleanOpenHashMap();
+        this.section = null;
+        this.mayMatchKey = Long.MAX_VALUE; // Not a valid section key, as the section x would be outside the world border
+    }
+
+    public BlockState getBlockState(BlockPos pos)
+    {
+        final LevelChunkSection section = getSection(pos);
+        return section == null ? Blocks.VOID_AIR.defaultBlockState() : section.getBlockState(pos.getX() & 15, pos.getY() & 15, pos.getZ() & 15);
+    }
+
+    public boolean isEmptyBlock(BlockPos pos)
+    {
+        return getBlockState(pos).isAir();
+    }
+
+    /**
+     * @return false if the section containing {@code pos} cannot contain any state matching the filter, based on its palette.
+     */
+    public boolean mayMatch(BlockPos pos)
+    {
+        final long key = SectionPos.asLong(SectionPos.blockToSectionCoord(pos.getX()), SectionPos.blockToSectionCoord(pos.getY()), SectionPos.blockToSectionCoord(pos.getZ()));
+        if (key != mayMatchKey)
+        {
+            if (sectionMayMatch.containsKey(key))
+            {
+                mayMatch = sectionMayMatch.get(key);
+            }
+            else
+            {
+                final LevelChunkSection section = getSection(pos);
+                mayMatch = section != null && section.maybeHas(filter);
+                sectionMayMatch.put(key, mayMatch);
+            }
+            mayMatchKey = key;
+        }
+        return mayMatch;
+    }
+
+    public void setBlock(BlockPos pos, BlockState state, int flags)
+    {
+        level.setBlock(pos, state, flags);
+    }
+
+    /**
+     * The equivalent of {@link net.minecraft.world.level.levelgen.feature.Feature#safeSetBlock(WorldGenLevel, BlockPos, BlockState, Predicate)}
+     */
+    public void safeSetBlock(BlockPos pos, BlockState state, Predicate<BlockState> predicate)
+    {
+        if (predicate.test(getBlockState(pos)))
+        {
+            level.setBlock(pos, state, 2);
+        }
+    }
+
+    @Nullable
+    private LevelChunkSection getSection(BlockPos pos)
+    {
+        final int sectionX = SectionPos.blockToSectionCoord(pos.getX()), sectionY = SectionPos.blockToSectionCoord(pos.getY()), sectionZ = SectionPos.blockToSectionCoord(pos.getZ());
+        final long key = SectionPos.asLong(sectionX, sectionY, sectionZ);
+        if (section == null || key != sectionKey)
+        {
+            if (level.isOutsideBuildHeight(pos.getY()))
+            {
+                return null;
+            }
+            final ChunkAccess chunk = level.getChunk(sectionX, sectionZ);
+            section = chunk.getSection(chunk.getSectionIndexFromSectionY(sectionY));
+            sectionKey = key;
+        }
+        return section;
+    }
+}
@@ -25,6 +25,7 @@ import com.mojang.serialization.Codec;
 import net.dries007.tfc.util.climate.OverworldClimateModel;
 import net.dries007.tfc.world.chunkdata.ChunkData;
 import net.dries007.tfc.world.chunkdata.ChunkDataProvider;
+import net.dries007.tfc.world.feature.VolumeAccess;
 
 public class IceCaveFeature extends Feature<NoneFeatureConfiguration>
 {
@@ -44,6 +45,7 @@ public class IceCaveFeature extends Feature<NoneFeatureConfiguration>
         final ChunkPos chunkPos = new ChunkPos(pos);
         final ChunkDataProvider provider = ChunkDataProvider.get(context.chunkGenerator());
         final ChunkData chunkData = provider.get(world, chunkPos);
+        final VolumeAccess volume = new VolumeAccess(world);
         for (int i = 0; i < 72; i++)
         {
             mutablePos.setWithOffset(pos, rand.nextInt(15) - rand.nextInt(15), -3, rand.nextInt(15) - rand.nextInt(15));
@@ -66,11 +68,11 @@ public class IceCaveFeature extends Feature<NoneFeatureConfiguration>
                 mutablePos.move(Direction.UP);
                 if (finalState.is(BlockTags.BASE_STONE_OVERWORLD))
                 {
-                    placeDisc(world, mutablePos, rand);
+                    placeDisc(world, volume, mutablePos, rand);
                 }
                 else if (finalState.is(BlockTags.ICE) && rand.nextFloat() < 0.03F)
                 {
-                    placeDisc(world, mutablePos, rand);
+                    placeDisc(world, volume, mutablePos, rand);
                 }
             }
             else if (mutablePos.getY() < 96 && rand.nextFloat() < 0.1F)//occluding thin areas
@@ -80,7 +82,7 @@ public class IceCaveFeature extends Feature<NoneFeatureConfiguration>
                 {
                     mutablePos.move(Direction.DOWN, 3);
                     if (world.isEmptyBlock(mutablePos))
-                        placeSphere(world, mutablePos, rand);
+                        placeSphere(world, volume, mutablePos, rand);
                 }
             }
             if (rand.nextFloat() < 0.002F)//extra springs
@@ -103,13 +105,13 @@ public class IceCaveFeature extends Feature<NoneFeatureConfiguration>
                     mutablePos.move(Direction.DOWN);
                     if (world.isEmptyBlock(mutablePos))
                     {
-                        placeSpike(world, mutablePos, rand, Direction.DOWN);
+                        placeSpike(world, volume, mutablePos, rand, Direction.DOWN);
                     }
                     else
                     {
                         mutablePos.move(Direction.UP, 2);
                         if (world.isEmptyBlock(mutablePos))
-                            placeSpike(world, mutablePos, rand, Direction.UP);
+                            placeSpike(world, volume, mutablePos, rand, Direction.UP);
                     }
                 }
             }
@@ -117,7 +119,7 @@ public class IceCaveFeature extends Feature<NoneFeatureConfiguration>
         return true;
     }
 
-    private void placeSpike(WorldGenLevel world, BlockPos.MutableBlockPos mutablePos, Random rand, Direction direction)
+    private void placeSpike(WorldGenLevel world, VolumeAccess volume, BlockPos.MutableBlockPos mutablePos, Random rand, Direction direction)
     {
         final BlockState state = getState(rand);
         final BlockPos pos = mutablePos.immutable();
@@ -150,7 +152,7 @@ public class IceCaveFeature extends Feature<NoneFeatureConfiguration>
                     else if (actualRadius < 0.85 && rand.nextBoolean())
                     {
                         // Only fill in if continuing downwards
-                        if (world.getBlockState(mutablePos.offset(0, -direction.getStepY(), 0)) == state)
+                        if (volume.getBlockState(mutablePos.offset(0, -direction.getStepY(), 0)) == state)
                         {
                             setBlock(world, mutablePos, state);
                         }
@@ -161,7 +163,7 @@ public class IceCaveFeature extends Feature<NoneFeatureConfiguration>
         mutablePos.set(pos).move(direction, maxHeightReached - 1);
     }
 
-    private void placeDisc(WorldGenLevel world, BlockPos.MutableBlockPos mutablePos, Random rand)
+    private void placeDisc(WorldGenLevel world, VolumeAccess volume, BlockPos.MutableBlockPos mutablePos, Random rand)
     {
         final float radius = 1 + rand.nextFloat() * rand.nextFloat() * 3.5f;
         final float radiusSquared = radius * radius;
@@ -173,7 +175,7 @@ public class IceCaveFeature extends Feature<NoneFeatureConfiguration>
         {
             mutablePos.move(d);
             mutablePos.move(Direction.DOWN, 2);
-            if (world.isEmptyBlock(mutablePos))
+            if (volume.isEmptyBlock(mutablePos))
                 return;
             mutablePos.move(d.getOpposite());
             mutablePos.move(Direction.UP, 2);
@@ -185,7 +187,7 @@ public class IceCaveFeature extends Feature<NoneFeatureConfiguration>
                 if (x * x + z * z <= radiusSquared)
                 {
                     mutablePos.set(pos).move(x, -1, z);
-                    if (!world.isEmptyBlock(mutablePos))
+                    if (!volume.isEmptyBlock(mutablePos))
                         mutablePos.move(Direction.UP);
                     setBlock(world, mutablePos, ice);
                 }
@@ -193,7 +195,7 @@ public class IceCaveFeature extends Feature<NoneFeatureConfiguration>
         }
     }
 
-    private void placeSphere(WorldGenLevel world, BlockPos.MutableBlockPos mutablePos, Random rand)
+    private void placeSphere(WorldGenLevel world, VolumeAccess volume, BlockPos.MutableBlockPos mutablePos, Random rand)
     {
         final float radius = 1 + rand.nextFloat() * rand.nextFloat() * 3.0f;
         final float radiusSquared = radius * radius;
@@ -209,7 +211,7 @@ public class IceCaveFeature extends Feature<NoneFeatureConfiguration>
                     if (x * x + y * y + z * z <= radiusSquared)
                     {
                         mutablePos.set(pos).move(x, y, z);
-                        if (world.isEmptyBlock(mutablePos))
+                        if (volume.isEmptyBlock(mutablePos))
                             setBlock(world, mutablePos, ice);
                     }
                 }
@@ -22,6 +22,9 @@ import net.dries007.tfc.world.chunkdata.ForestType;
 
 public class ClimatePlacement extends PlacementModifier
 {
+    private static final int OUTSIDE = 0, PARTIAL = 1, INSIDE = 2;
+    private static final float RANGE_EPSILON = 0.01f;
+
     public static final Codec<ClimatePlacement> CODEC = RecordCodecBuilder.create(instance -> instance.group(
         Codec.FLOAT.optionalFieldOf("min_temperature", -Float.MAX_VALUE).forGetter(c -> c.minTemp),
         Codec.FLOAT.optionalFieldOf("max_temperature", Float.MAX_VALUE).forGetter(c -> c.maxTemp),
@@ -63,11 +66,31 @@ public class ClimatePlacement extends PlacementModifier
 
     public boolean isValid(ChunkData data, BlockPos pos, Random random)
     {
+        final ForestType forestType = data.getForestType();
+        if (minForest.ordinal() > forestType.ordinal() || forestType.ordinal() > maxForest.ordinal())
+        {
+            return false;
+        }
+
+        if (!fuzzy)
+        {
+            // Climate values are interpolated between the corners of the chunk, so most chunks are either entirely inside or outside the range, and don't need to be interpolated per position
+            final int temperatureRange = compareRange(data.getMinAverageTemp(), data.getMaxAverageTemp(), minTemp, maxTemp);
+            final int rainfallRange = temperatureRange == OUTSIDE ? OUTSIDE : compareRange(data.getMinRainfall(), data.getMaxRainfall(), minRainfall, maxRainfall);
+            if (temperatureRange == OUTSIDE || rainfallRange == OUTSIDE)
+            {
+                return false;
+            }
+            if (temperatureRange == INSIDE && rainfallRange == INSIDE)
+            {
+                return true;
+            }
+        }
+
         final float temperature = data.getAverageTemp(pos);
         final float rainfall = data.getRainfall(pos);
-        final ForestType forestType = data.getForestType();
 
-        if (minTemp <= temperature && temperature <= maxTemp && minRainfall <= rainfall && rainfall <= maxRainfall && minForest.ordinal() <= forestType.ordinal() && forestType.ordinal() <= maxForest.ordinal())
+        if (minTemp <= temperature && temperature <= maxTemp && minRainfall <= rainfall && rainfall <= maxRainfall)
         {
             if (fuzzy)
             {
@@ -80,6 +103,23 @@ public class ClimatePlacement extends PlacementModifier
         return false;
     }
 
+    /**
+     * Compares the range of a value across a chunk, against the range this placement accepts.
+     * The interpolated values may round slightly past the corners, so ranges which come close to a bound are always checked per position.
+     */
+    private int compareRange(float valueMin, float valueMax, float min, float max)
+    {
+        if (valueMax + RANGE_EPSILON < min || valueMin - RANGE_EPSILON > max)
+        {
+            return OUTSIDE;
+        }
+        if (min <= valueMin - RANGE_EPSILON && valueMax + RANGE_EPSILON <= max)
+        {
+            return INSIDE;
+        }
+        return PARTIAL;
+    }
+
     @Override
     public Stream<BlockPos> getPositions(PlacementContext context, Random random, BlockPos pos)
     {
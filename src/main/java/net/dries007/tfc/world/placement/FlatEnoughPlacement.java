@@ -31,12 +31,22 @@ public class FlatEnoughPlacement extends PlacementModifier
     private final float flatness;
     private final int radius;
     private final int maxDepth;
+    private final int requiredAmount; // The minimum number of solid blocks in a layer for it to be flat enough
 
     public FlatEnoughPlacement(float flatness, int radius, int maxDepth)
     {
         this.flatness = flatness;
         this.radius = radius;
         this.maxDepth = maxDepth;
+
+        // Exactly matches the ratio comparison, including float rounding. Equal to area + 1 if no layer can ever be flat enough
+        final int area = (1 + 2 * radius) * (1 + 2 * radius);
+        int amount = 0;
+        while (amount <= area && !(amount / ((1f + 2 * radius) * (1f + 2 * radius)) > flatness))
+        {
+            amount++;
+        }
+        this.requiredAmount = amount;
     }
 
     @Override
@@ -59,21 +69,35 @@ public class FlatEnoughPlacement extends PlacementModifier
         return Stream.empty();
     }
 
+    /**
+     * Counts solid blocks in the layer, stopping as soon as the result is known: either there are enough solid blocks, or there are too few blocks left to check to reach that amount.
+     */
     private boolean isFlatEnough(PlacementContext level, BlockPos pos, int y, BlockPos.MutableBlockPos mutablePos)
     {
         int flatAmount = 0;
+        int remaining = (1 + 2 * radius) * (1 + 2 * radius);
         for (int x = -radius; x <= radius; x++)
         {
             for (int z = -radius; z <= radius; z++)
             {
+                if (flatAmount >= requiredAmount)
+                {
+                    return true;
+                }
+                if (flatAmount + remaining < requiredAmount)
+                {
+                    return false;
+                }
+
                 mutablePos.set(pos).move(x, y, z);
                 BlockState stateAt = level.getBlockState(mutablePos);
                 if (!stateAt.isAir() && stateAt.getFluidState().getType() == Fluids.EMPTY) // No direct access to world, cannot use forge method
                 {
                     flatAmount++;
                 }
+                remaining--;
             }
         }
-        return flatAmount / ((1f + 2 * radius) * (1f + 2 * radius)) > flatness;
+        return flatAmount >= requiredAmount;
     }
-}
+}
\ No newline at end of file
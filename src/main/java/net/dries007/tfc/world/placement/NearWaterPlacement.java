@@ -9,9 +9,13 @@ package net.dries007.tfc.world.placement;
 import java.util.Random;
 import java.util.stream.Stream;
 
-import net.minecraft.world.level.block.state.BlockState;
-import net.minecraft.tags.FluidTags;
 import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.tags.FluidTags;
+import net.minecraft.world.level.LevelAccessor;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.chunk.LevelChunkSection;
 import net.minecraft.world.level.levelgen.placement.PlacementContext;
 import net.minecraft.world.level.levelgen.placement.PlacementModifier;
 import net.minecraft.world.level.levelgen.placement.PlacementModifierType;
@@ -42,6 +46,11 @@ public class NearWaterPlacement extends PlacementModifier
     @Override
     public Stream<BlockPos> getPositions(PlacementContext context, Random random, BlockPos pos)
     {
+        if (!mayContainWater(context.getLevel(), pos.offset(-radius, -radius, -radius), pos.offset(radius, 0, radius)))
+        {
+            return Stream.empty();
+        }
+
         final BlockPos.MutableBlockPos mutablePos = new BlockPos.MutableBlockPos();
         for (int x = -radius; x <= radius; x++)
         {
@@ -61,4 +70,31 @@ public class NearWaterPlacement extends PlacementModifier
         }
         return Stream.empty();
     }
-}
+
+    /**
+     * Checks the palettes of every section intersecting a box, which is a conservative test for any water within it.
+     * Most attempts are far from any water, and this rejects them by looking at a few sections, rather than querying every position.
+     * This reads the current palettes, rather than caching anything, as earlier features in the same chunk may have placed water.
+     */
+    private boolean mayContainWater(LevelAccessor level, BlockPos from, BlockPos to)
+    {
+        final int minSectionY = Math.max(level.getMinSection(), SectionPos.blockToSectionCoord(from.getY()));
+        final int maxSectionY = Math.min(level.getMaxSection() - 1, SectionPos.blockToSectionCoord(to.getY()));
+        for (int chunkX = SectionPos.blockToSectionCoord(from.getX()); chunkX <= SectionPos.blockToSectionCoord(to.getX()); chunkX++)
+        {
+            for (int chunkZ = SectionPos.blockToSectionCoord(from.getZ()); chunkZ <= SectionPos.blockToSectionCoord(to.getZ()); chunkZ++)
+            {
+                final ChunkAccess chunk = level.getChunk(chunkX, chunkZ);
+                for (int sectionY = minSectionY; sectionY <= maxSectionY; sectionY++)
+                {
+                    final LevelChunkSection section = chunk.getSection(chunk.getSectionIndexFromSectionY(sectionY));
+                    if (!section.hasOnlyAir() && section.maybeHas(state -> state.getFluidState().is(FluidTags.WATER)))
+                    {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+}
\ No newline at end of file
@@ -17,6 +17,8 @@ import net.minecraft.world.level.block.Block;
 import com.mojang.serialization.Codec;
 import com.mojang.serialization.DataResult;
 import com.mojang.serialization.codecs.RecordCodecBuilder;
+import it.unimi.dsi.fastutil.objects.Reference2IntMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
 import net.dries007.tfc.world.Codecs;
 
 public class RockLayerSettings
@@ -74,6 +76,7 @@ public class RockLayerSettings
 
     private final Map<ResourceLocation, RockSettings> rocksById;
     private final List<RockSettings> rocks;
+    private final Reference2IntMap<RockSettings> rockIndices;
     private final Map<Block, RockSettings> rockBlocks;
     private final int rockLayerScale; // In [0, 32]
 
@@ -85,7 +88,13 @@ public class RockLayerSettings
             .sorted(Map.Entry.comparingByKey())
             .map(Map.Entry::getValue)
             .toList();
+        this.rockIndices = new Reference2IntOpenHashMap<>(rocks.size());
         this.rockBlocks = new IdentityHashMap<>();
+        this.rockIndices.defaultReturnValue(-1);
+        for (int i = 0; i < rocks.size(); i++)
+        {
+            rockIndices.put(rocks.get(i), i);
+        }
         this.rockLayerScale = rockLayerScale;
 
         for (RockSettings rock : this.rocksById.values())
@@ -113,6 +122,14 @@ public class RockLayerSettings
         return rocksById.get(id);
     }
 
+    /**
+     * @return The index of {@code rock} within {@link #getRocks()}, or -1 if it is not present.
+     */
+    public int getRockIndex(RockSettings rock)
+    {
+        return rockIndices.getInt(rock);
+    }
+
     public int getScale()
     {
         return rockLayerScale;
@@ -11,21 +11,21 @@ import java.util.Set;
 import javax.annotation.Nullable;
 
 import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
 import net.minecraft.util.Mth;
 import net.minecraft.world.level.LevelAccessor;
 import net.minecraft.world.level.biome.Biome;
 import net.minecraft.world.level.block.Blocks;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.chunk.LevelChunkSection;
 import net.minecraft.world.level.levelgen.Heightmap;
 import net.minecraft.world.level.levelgen.RandomSource;
 
-import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
 import net.dries007.tfc.world.TFCChunkGenerator;
 import net.dries007.tfc.world.biome.BiomeVariants;
 import net.dries007.tfc.world.chunkdata.ChunkData;
 import net.dries007.tfc.world.chunkdata.RockData;
-import net.dries007.tfc.world.settings.RockLayerSettings;
 import net.dries007.tfc.world.settings.RockSettings;
 import net.dries007.tfc.world.surface.builder.SurfaceBuilder;
 
@@ -41,17 +41,25 @@ public class SurfaceBuilderContext
     private final int minY;
 
     private final Set<BlockState> defaultBlockStates;
-    private final Set<BlockState> defaultFluidStates;
+    private final BlockState defaultFluidState;
 
     private final BlockPos.MutableBlockPos cursor;
 
+    // The section containing the cursor, cached as surface builders work down a single column
+    @Nullable private LevelChunkSection section;
+    private int sectionY;
+
+    // The rock layers of the current column, resolved once per column rather than for every block placed
+    @Nullable private RockSettings topRock, middleRock, bottomRock;
+    private int topRockHeight, middleRockHeight;
+
     @Nullable private Biome biome;
     private double slope;
     private float temperature;
     private float rainfall;
     private boolean salty;
 
-    public SurfaceBuilderContext(LevelAccessor world, ChunkAccess chunk, ChunkData chunkData, RandomSource random, long seed, RockLayerSettings rockLayerSettings, int seaLevel, int minY)
+    public SurfaceBuilderContext(LevelAccessor world, ChunkAccess chunk, ChunkData chunkData, RandomSource random, long seed, Set<BlockState> defaultBlockStates, int seaLevel, int minY)
     {
         this.world = world;
         this.chunk = chunk;
@@ -62,16 +70,11 @@ public class SurfaceBuilderContext
         this.seaLevel = seaLevel;
         this.minY = minY;
 
-        this.defaultBlockStates = new ObjectOpenHashSet<>();
-        this.defaultFluidStates = new ObjectOpenHashSet<>();
+        this.defaultBlockStates = defaultBlockStates;
+        this.defaultFluidState = Blocks.WATER.defaultBlockState();
 
         this.cursor = new BlockPos.MutableBlockPos();
-
-        for (RockSettings rock : rockLayerSettings.getRocks())
-        {
-            defaultBlockStates.add(rock.raw().defaultBlockState());
-        }
-        defaultFluidStates.add(Blocks.WATER.defaultBlockState());
+        this.section = null;
     }
 
     public void buildSurface(Biome biome, BiomeVariants variants, SurfaceBuilder builder, int x, int y, int z, double slope)
@@ -82,11 +85,18 @@ public class SurfaceBuilderContext
         this.rainfall = chunkData.getRainfall(x, z);
         this.salty = variants.isSalty();
 
+        this.topRock = rockData.getTopRock(x, z);
+        this.middleRock = rockData.getMiddleRock(x, z);
+        this.bottomRock = rockData.getBottomRock(x, z);
+        this.topRockHeight = rockData.getTopLayerHeight(x, z);
+        this.middleRockHeight = rockData.getMiddleLayerHeight(x, z);
+
         // We iterate down based on the actual surface height (since our capability for overhangs is much more limited than vanilla)
         final int oceanFloor = chunk.getHeight(Heightmap.Types.OCEAN_FLOOR_WG, x, z);
         final int actualMinSurfaceHeight = Math.max(minY, Math.min(y, oceanFloor) - 20); // Iterate down to at least the ocean floor and below
 
         cursor.set(x, 0, z);
+        section = null;
         builder.buildSurface(this, y, actualMinSurfaceHeight);
     }
 
@@ -106,14 +116,21 @@ public class SurfaceBuilderContext
         return rockData;
     }
 
+    /**
+     * @return The rock at the cursor, equivalent to {@link RockData#getRock(int, int, int)}
+     */
     public RockSettings getRock()
     {
-        return getRock(cursor.getX(), cursor.getY(), cursor.getZ());
+        assert topRock != null && middleRock != null && bottomRock != null;
+
+        final int y = cursor.getY();
+        return y > topRockHeight ? topRock : (y > middleRockHeight ? middleRock : bottomRock);
     }
 
     public RockSettings getBottomRock()
     {
-        return rockData.getBottomRock(cursor.getX(), cursor.getZ());
+        assert bottomRock != null;
+        return bottomRock;
     }
 
     public RockSettings getRock(int x, int y, int z)
@@ -136,9 +153,24 @@ public class SurfaceBuilderContext
         return salty;
     }
 
+    /**
+     * Reads directly from the section containing {@code y}, which is only looked up again once the column crosses into a different section.
+     * Writes still go through the chunk, as it needs to update heightmaps and light sources.
+     */
     public BlockState getBlockState(int y)
     {
-        return chunk.getBlockState(cursor.setY(y));
+        cursor.setY(y);
+        final int sectionY = SectionPos.blockToSectionCoord(y);
+        if (section == null || this.sectionY != sectionY)
+        {
+            if (chunk.isOutsideBuildHeight(y))
+            {
+                return Blocks.VOID_AIR.defaultBlockState();
+            }
+            this.section = chunk.getSection(chunk.getSectionIndexFromSectionY(sectionY));
+            this.sectionY = sectionY;
+        }
+        return section.getBlockState(cursor.getX() & 15, y & 15, cursor.getZ() & 15);
     }
 
     public void setBlockState(int y, SurfaceState state)
@@ -189,7 +221,7 @@ public class SurfaceBuilderContext
 
     public boolean isDefaultFluid(BlockState state)
     {
-        return defaultFluidStates.contains(state);
+        return state == defaultFluidState;
     }
 
     public int calculateAltitudeSlopeSurfaceDepth(int y, int maxDepth, double falloff, int minimumReturnValue)
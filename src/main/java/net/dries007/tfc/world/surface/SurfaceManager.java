@@ -7,6 +7,7 @@
 package net.dries007.tfc.world.surface;
 
 import java.util.Map;
+import java.util.Set;
 
 import com.google.common.collect.ImmutableMap;
 
@@ -22,9 +23,11 @@ import net.minecraft.world.level.chunk.ChunkAccess;
 import net.minecraft.world.level.levelgen.Heightmap;
 import net.minecraft.world.level.levelgen.RandomSource;
 
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
 import net.dries007.tfc.world.biome.*;
 import net.dries007.tfc.world.chunkdata.ChunkData;
 import net.dries007.tfc.world.settings.RockLayerSettings;
+import net.dries007.tfc.world.settings.RockSettings;
 import net.dries007.tfc.world.surface.builder.SurfaceBuilder;
 
 public class SurfaceManager
@@ -39,16 +42,29 @@ public class SurfaceManager
         return builder.build();
     }
 
+    private static Set<BlockState> collectDefaultBlockStates(RockLayerSettings rockLayerSettings)
+    {
+        final ReferenceOpenHashSet<BlockState> states = new ReferenceOpenHashSet<>();
+        for (RockSettings rock : rockLayerSettings.getRocks())
+        {
+            states.add(rock.raw().defaultBlockState());
+        }
+        states.trim();
+        return states;
+    }
+
     private final long seed;
     private final Map<BiomeVariants, SurfaceBuilder> builders;
+    private final Set<BlockState> defaultBlockStates; // The raw rock states, which surface builders will replace
 
-    public SurfaceManager(long seed)
+    public SurfaceManager(long seed, RockLayerSettings rockLayerSettings)
     {
         this.seed = seed;
         this.builders = collectSurfaceBuilders(seed);
+        this.defaultBlockStates = collectDefaultBlockStates(rockLayerSettings);
     }
 
-    public void buildSurface(LevelAccessor world, ChunkAccess chunk, RockLayerSettings rockLayerSettings, ChunkData chunkData, Biome[] accurateChunkBiomes, double[] slopeMap, RandomSource random, int seaLevel, int minY)
+    public void buildSurface(LevelAccessor world, ChunkAccess chunk, ChunkData chunkData, Biome[] accurateChunkBiomes, double[] slopeMap, RandomSource random, int seaLevel, int minY)
     {
         final boolean debugSlope = false;
 
@@ -60,7 +76,7 @@ public class SurfaceManager
             slopeVisualization(chunk, slopeMap, blockX, blockZ);
         }
 
-        final SurfaceBuilderContext context = new SurfaceBuilderContext(world, chunk, chunkData, random, seed, rockLayerSettings, seaLevel, minY);
+        final SurfaceBuilderContext context = new SurfaceBuilderContext(world, chunk, chunkData, random, seed, defaultBlockStates, seaLevel, minY);
         for (int x = 0; x < 16; ++x)
         {
             for (int z = 0; z < 16; ++z)
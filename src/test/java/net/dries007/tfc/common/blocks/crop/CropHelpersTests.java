@@ -0,0 +1,73 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.common.blocks.crop;
+
+import java.util.Random;
+
+import net.dries007.tfc.util.calendar.ICalendar;
+import org.junit.jupiter.api.Test;
+
+import static net.dries007.tfc.TestHelper.seed;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CropHelpersTests
+{
+    @Test
+    public void testGrowthIntervalsCoverElapsedTime()
+    {
+        final Random random = new Random(seed());
+        for (int trial = 0; trial < 1000; trial++)
+        {
+            final long firstTick = random.nextInt(100 * ICalendar.TICKS_IN_DAY);
+            final long thisTick = firstTick + random.nextInt(20 * ICalendar.TICKS_IN_DAY);
+            final long[] covered = {firstTick};
+
+            assertTrue(CropHelpers.growthTickIntervals(firstTick, thisTick, (fromTick, toTick) -> {
+                assertEquals(covered[0], fromTick, "Intervals should be consecutive");
+                assertTrue(toTick > fromTick && toTick - fromTick <= CropHelpers.UPDATE_INTERVAL, "Interval " + fromTick + " -> " + toTick);
+                covered[0] = toTick;
+                return true;
+            }));
+            assertEquals(thisTick, covered[0]);
+        }
+    }
+
+    @Test
+    public void testGrowthIntervalsStopWhenCropDies()
+    {
+        final int[] steps = {0};
+        assertFalse(CropHelpers.growthTickIntervals(0, 10 * CropHelpers.UPDATE_INTERVAL, (fromTick, toTick) -> ++steps[0] < 3));
+        assertEquals(3, steps[0]);
+    }
+
+    /**
+     * Crops used to tick only to poll the calendar, which moved their last update tick forward every tick, so a random tick would only grow the crop by a single tick.
+     * Now the last update tick is only moved by growth, so random ticks in normal play grow the crop over all the time since the previous growth.
+     */
+    @Test
+    public void testRandomTicksGrowOverTimeSinceLastGrowth()
+    {
+        final Random random = new Random(seed());
+        final long plantedTick = 1000, harvestTick = plantedTick + 30L * ICalendar.TICKS_IN_DAY;
+        final long[] lastUpdateTick = {plantedTick};
+        long grownTicks = 0;
+
+        for (long tick = plantedTick + random.nextInt(4000); tick < harvestTick; tick += random.nextInt(4000))
+        {
+            final long[] grown = {0};
+            CropHelpers.growthTickIntervals(lastUpdateTick[0], tick, (fromTick, toTick) -> {
+                grown[0] += toTick - fromTick;
+                lastUpdateTick[0] = toTick; // As done by growthTickStep()
+                return true;
+            });
+            grownTicks += grown[0];
+        }
+
+        assertEquals(lastUpdateTick[0] - plantedTick, grownTicks);
+        assertTrue(harvestTick - lastUpdateTick[0] < 4000);
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.common.blocks.plant.fruit;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import static net.dries007.tfc.TestHelper.seed;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BushGrowthTests
+{
+    static final int TRIALS = 20_000;
+    static final double TOLERANCE = 0.03;
+
+    static final Lifecycle[] LIFECYCLES = Lifecycle.values();
+
+    @Test
+    public void testSampleStagesGrownMatchesPerMonthDraws()
+    {
+        final Random random = new Random(seed());
+        for (int activeMonths = 0; activeMonths <= 13; activeMonths++)
+        {
+            for (int maxStages = 0; maxStages <= 2; maxStages++)
+            {
+                final double[] expected = new double[3], actual = new double[3];
+                for (int trial = 0; trial < TRIALS; trial++)
+                {
+                    expected[Math.min(maxStages, legacyStagesGrown(activeMonths, random))]++;
+                    actual[BushGrowth.sampleStagesGrown(activeMonths, maxStages, random)]++;
+                }
+                assertDistributionEquals(expected, actual, "active months = " + activeMonths + ", max stages = " + maxStages);
+            }
+        }
+    }
+
+    @Test
+    public void testSimulationMatchesMonthByMonthSimulation()
+    {
+        final Random random = new Random(seed());
+        for (int scenario = 0; scenario < 50; scenario++)
+        {
+            final Lifecycle start = LIFECYCLES[random.nextInt(LIFECYCLES.length)];
+            final int months = 1 + random.nextInt(13);
+            final int maxStages = random.nextInt(3);
+            final Lifecycle[] expectedLifecycles = new Lifecycle[months];
+            final boolean[] validConditions = new boolean[months];
+            for (int month = 0; month < months; month++)
+            {
+                expectedLifecycles[month] = LIFECYCLES[random.nextInt(LIFECYCLES.length)];
+                validConditions[month] = random.nextInt(4) != 0;
+            }
+
+            final double[] expectedStages = new double[3], actualStages = new double[3];
+            for (int trial = 0; trial < TRIALS; trial++)
+            {
+                final BushGrowth.Result expected = legacySimulate(start, months, expectedLifecycles, validConditions, maxStages, random);
+                final BushGrowth.Result actual = BushGrowth.simulate(start, months, month -> expectedLifecycles[month], month -> validConditions[month], maxStages, random);
+
+                // Lifecycle and death are deterministic given the conditions, so they must match exactly
+                assertEquals(expected.lifecycle(), actual.lifecycle());
+                assertEquals(expected.monthsSpentDying(), actual.monthsSpentDying());
+
+                expectedStages[expected.stagesGrown()]++;
+                actualStages[actual.stagesGrown()]++;
+            }
+            assertDistributionEquals(expectedStages, actualStages, "scenario " + scenario);
+        }
+    }
+
+    @Test
+    public void testConditionsQueriedOnceAndInOrder()
+    {
+        final int[] next = {0};
+        BushGrowth.simulate(Lifecycle.HEALTHY, 12, month -> Lifecycle.FLOWERING, month -> {
+            assertEquals(next[0]++, month);
+            return true;
+        }, 2, new Random(seed()));
+        assertEquals(12, next[0]);
+    }
+
+    private void assertDistributionEquals(double[] expected, double[] actual, String message)
+    {
+        double expectedTotal = 0, actualTotal = 0;
+        for (int i = 0; i < expected.length; i++)
+        {
+            expectedTotal += expected[i];
+            actualTotal += actual[i];
+        }
+        for (int i = 0; i < expected.length; i++)
+        {
+            assertEquals(expected[i] / expectedTotal, actual[i] / actualTotal, TOLERANCE, message + ", stages = " + i);
+        }
+    }
+
+    private int legacyStagesGrown(int activeMonths, Random random)
+    {
+        int stagesGrown = 0;
+        for (int month = 0; month < activeMonths; month++)
+        {
+            if (random.nextInt(3) == 0)
+            {
+                stagesGrown++;
+            }
+        }
+        return stagesGrown;
+    }
+
+    /**
+     * The month-by-month simulation, drawing a random number each active month, as was done in {@link StationaryBerryBushBlock} before {@link BushGrowth}
+     */
+    private BushGrowth.Result legacySimulate(Lifecycle currentLifecycle, int months, Lifecycle[] expectedLifecycles, boolean[] validConditions, int maxStages, Random random)
+    {
+        int stagesGrown = 0, monthsSpentDying = 0;
+        for (int month = 0; month < months; month++)
+        {
+            if (currentLifecycle.active() && random.nextInt(3) == 0)
+            {
+                stagesGrown++;
+            }
+
+            final Lifecycle lifecycleAtNextTick = expectedLifecycles[month];
+            if (validConditions[month])
+            {
+                currentLifecycle = currentLifecycle.advanceTowards(lifecycleAtNextTick);
+            }
+            else
+            {
+                currentLifecycle = Lifecycle.DORMANT;
+            }
+
+            if (lifecycleAtNextTick != Lifecycle.DORMANT && currentLifecycle == Lifecycle.DORMANT)
+            {
+                monthsSpentDying++;
+            }
+            else
+            {
+                monthsSpentDying = 0;
+            }
+        }
+        return new BushGrowth.Result(Math.min(maxStages, stagesGrown), currentLifecycle, monthsSpentDying);
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.common.capabilities.food;
+
+import java.util.List;
+import java.util.Random;
+
+import net.minecraft.nbt.CompoundTag;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static net.dries007.tfc.TestHelper.boostrap;
+import static net.dries007.tfc.TestHelper.seed;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FoodCapabilityTests
+{
+    static final List<FoodTrait> TRAITS = List.of(FoodTraits.SALTED, FoodTraits.BRINED, FoodTraits.PICKLED);
+    static final List<FoodRecord> RECORDS = List.of(new FoodRecord(4, 0, 0, 1, 0, 0, 0, 0, 1), new FoodRecord(4, 0, 0, 0, 1, 0, 0, 0, 2));
+
+    @BeforeAll
+    public static void setup()
+    {
+        boostrap();
+    }
+
+    @Test
+    public void testFoodComparisonMatchesCopies()
+    {
+        final Random random = new Random(seed());
+        for (int i = 0; i < 10000; i++)
+        {
+            final FoodHandler food1 = createRandomFood(random), food2 = createRandomFood(random);
+            final long date1 = food1.getCreationDate(), date2 = food2.getCreationDate();
+
+            final boolean expected = areCopiesStackable(food1, food2);
+            assertEquals(expected, FoodCapability.areFoodsStackableExceptCreationDate(food1, food2), () -> "Comparing " + food1.serializeNBT() + " and " + food2.serializeNBT());
+            if (date1 == date2)
+            {
+                // With the same creation date, the stacks are compared directly
+                assertEquals(expected, food1.serializeNBT().equals(food2.serializeNBT()));
+            }
+
+            assertEquals(date1, food1.getCreationDate());
+            assertEquals(date2, food2.getCreationDate());
+        }
+    }
+
+    /**
+     * The comparison done before, by copying both foods and giving them the same creation date.
+     */
+    private boolean areCopiesStackable(FoodHandler food1, FoodHandler food2)
+    {
+        final FoodHandler copy1 = copy(food1), copy2 = copy(food2);
+        copy1.setCreationDate(1000);
+        copy2.setCreationDate(1000);
+        return copy1.serializeNBT().equals(copy2.serializeNBT());
+    }
+
+    private FoodHandler copy(FoodHandler food)
+    {
+        final CompoundTag nbt = food.serializeNBT();
+        final FoodHandler copy = new TestFoodHandler(food.getData(), food.isDynamic());
+        copy.deserializeNBT(nbt);
+        return copy;
+    }
+
+    private FoodHandler createRandomFood(Random random)
+    {
+        final boolean dynamic = random.nextInt(4) == 0;
+        final FoodHandler food = new TestFoodHandler(dynamic ? RECORDS.get(random.nextInt(RECORDS.size())) : RECORDS.get(0), dynamic);
+        for (int i = random.nextInt(3); i > 0; i--)
+        {
+            final FoodTrait trait = TRAITS.get(random.nextInt(TRAITS.size()));
+            if (!food.getTraits().contains(trait))
+            {
+                food.getTraits().add(trait);
+            }
+        }
+        food.setCreationDate(random.nextInt(3) * 1000L);
+        return food;
+    }
+
+    /**
+     * Returns the creation date as set, as the calendar and config are not available in tests.
+     */
+    static class TestFoodHandler extends FoodHandler
+    {
+        private final boolean dynamic;
+
+        TestFoodHandler(FoodRecord data, boolean dynamic)
+        {
+            super(data);
+            this.dynamic = dynamic;
+        }
+
+        @Override
+        public long getCreationDate(boolean isClientSide)
+        {
+            return creationDate;
+        }
+
+        @Override
+        protected boolean isDynamic()
+        {
+            return dynamic;
+        }
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.common.capabilities.heat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import static net.dries007.tfc.TestHelper.seed;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DeviceHeatModelTests
+{
+    static final int TRIALS = 2000;
+
+    @Test
+    public void testFirepitMatchesTickByTickSimulation()
+    {
+        testMatchesTickByTickSimulation(true);
+    }
+
+    @Test
+    public void testForgeMatchesTickByTickSimulation()
+    {
+        testMatchesTickByTickSimulation(false);
+    }
+
+    private void testMatchesTickByTickSimulation(boolean itemsMatchDevice)
+    {
+        final Random random = new Random(seed());
+        for (int trial = 0; trial < TRIALS; trial++)
+        {
+            final long ticks = 1 + random.nextInt(20000);
+            final float heatingModifier = 0.5f + random.nextFloat() * 1.5f;
+            final int burnRate = 1 + random.nextInt(2);
+            final int burnTicks = random.nextInt(2000) - 1;
+            final float target = random.nextFloat() * 1500;
+            final float temperature = random.nextFloat() * 1500;
+
+            final List<DeviceHeatModel.Burn> fuels = new ArrayList<>();
+            final int fuelCount = random.nextInt(5);
+            for (int i = 0; i < fuelCount; i++)
+            {
+                fuels.add(new DeviceHeatModel.Burn(100 + random.nextInt(3000), random.nextFloat() * 1500));
+            }
+
+            final int itemCount = random.nextInt(4);
+            final float[] itemTemperatures = new float[itemCount], heatCapacities = new float[itemCount];
+            for (int i = 0; i < itemCount; i++)
+            {
+                itemTemperatures[i] = random.nextFloat() * 1500;
+                heatCapacities[i] = 0.05f + random.nextFloat();
+            }
+
+            final Simulation expected = new Simulation(temperature, heatingModifier, itemsMatchDevice, itemTemperatures, heatCapacities);
+            final DeviceHeatModel.BurnResult expectedResult = expected.burn(ticks, burnRate, burnTicks, target, fuels);
+
+            final DeviceHeatModel actual = new DeviceHeatModel(temperature, heatingModifier, itemsMatchDevice);
+            for (int i = 0; i < itemCount; i++)
+            {
+                actual.addItem(itemTemperatures[i], heatCapacities[i], heatingModifier);
+            }
+            final DeviceHeatModel.BurnResult actualResult = actual.burn(ticks, burnRate, burnTicks, target, fuels);
+
+            // Fuel consumption is exact
+            final String message = "trial " + trial;
+            assertEquals(expectedResult, actualResult, message);
+
+            // Temperatures can differ by a few ticks worth of change, due to the ticks on which heating and cooling start and stop
+            assertEquals(expected.temperature, actual.getTemperature(), 1 + 2 * heatingModifier, message);
+            for (int i = 0; i < itemCount; i++)
+            {
+                final float itemRate = heatCapacities[i] * heatingModifier * HeatCapability.DEFAULT_HEATING_MODIFIER;
+                assertEquals(expected.itemTemperatures[i], actual.getItemTemperature(i), 1 + 2 * (heatingModifier + itemRate), message + ", item " + i);
+            }
+        }
+    }
+
+    /**
+     * The tick by tick behavior of a firepit or forge, as done in their server tick
+     */
+    static class Simulation
+    {
+        final float heatingModifier;
+        final boolean itemsMatchDevice;
+        final double[] itemTemperatures;
+        final float[] heatCapacities;
+        double temperature;
+
+        Simulation(float temperature, float heatingModifier, boolean itemsMatchDevice, float[] itemTemperatures, float[] heatCapacities)
+        {
+            this.temperature = temperature;
+            this.heatingModifier = heatingModifier;
+            this.itemsMatchDevice = itemsMatchDevice;
+            this.itemTemperatures = new double[itemTemperatures.length];
+            this.heatCapacities = heatCapacities;
+            for (int i = 0; i < itemTemperatures.length; i++)
+            {
+                this.itemTemperatures[i] = itemTemperatures[i];
+            }
+        }
+
+        DeviceHeatModel.BurnResult burn(long ticks, int burnRate, int burnTicks, float target, List<DeviceHeatModel.Burn> fuels)
+        {
+            boolean lit = true;
+            int consumed = 0;
+            long ticksUnlit = 0;
+            for (long tick = 0; tick < ticks; tick++)
+            {
+                if (lit)
+                {
+                    if (burnTicks > 0)
+                    {
+                        burnTicks -= burnRate;
+                    }
+                    if (burnTicks <= 0)
+                    {
+                        if (consumed < fuels.size())
+                        {
+                            final DeviceHeatModel.Burn fuel = fuels.get(consumed++);
+                            burnTicks += fuel.duration();
+                            target = fuel.target();
+                        }
+                        else
+                        {
+                            lit = false;
+                            burnTicks = 0;
+                            target = 0;
+                        }
+                    }
+                }
+                if (!lit)
+                {
+                    ticksUnlit++;
+                }
+
+                temperature = temperature < target ? Math.min(temperature + heatingModifier, target) : Math.max(temperature - heatingModifier, target);
+
+                for (int i = 0; i < itemTemperatures.length; i++)
+                {
+                    final double cooling = heatCapacities[i] * heatingModifier;
+                    final double itemTemperature = Math.max(0, itemTemperatures[i] - cooling);
+                    if (itemsMatchDevice ? temperature > 0 : temperature > itemTemperature)
+                    {
+                        itemTemperatures[i] = Math.min(itemTemperature + HeatCapability.DEFAULT_HEATING_MODIFIER * cooling, temperature);
+                    }
+                    else
+                    {
+                        itemTemperatures[i] = itemTemperature;
+                    }
+                }
+            }
+            return new DeviceHeatModel.BurnResult(consumed, lit ? burnTicks : 0, ticksUnlit);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.util;
+
+import java.util.*;
+
+import net.minecraft.resources.ResourceLocation;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static net.dries007.tfc.TestHelper.boostrap;
+import static net.dries007.tfc.TestHelper.seed;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DataManagerTests
+{
+    static final ResourceLocation A = new ResourceLocation("a"), B = new ResourceLocation("b"), C = new ResourceLocation("c"), D = new ResourceLocation("d");
+
+    @BeforeAll
+    public static void setup()
+    {
+        boostrap();
+    }
+
+    @Test
+    public void testDeltaFollowsServerOrder()
+    {
+        final DataManager<String> manager = createSynced(0, A, B, C);
+
+        assertTrue(manager.onSyncDelta(Map.of(D, "d2", A, "a2"), List.of(D, C, A), 0, 1));
+        assertEquals(List.of("d2", "c", "a2"), List.copyOf(manager.getValues()));
+        assertNull(manager.get(B));
+    }
+
+    @Test
+    public void testDeltaMatchesFullSync()
+    {
+        final Random random = new Random(seed());
+        final List<ResourceLocation> ids = new ArrayList<>();
+        for (int i = 0; i < 50; i++)
+        {
+            ids.add(new ResourceLocation("type_" + i));
+        }
+
+        final DataManager<String> manager = createSynced(0, ids.toArray(ResourceLocation[]::new));
+        for (int generation = 1; generation < 20; generation++)
+        {
+            // A random reload: shuffled, with some types removed, added and changed
+            Collections.shuffle(ids, random);
+            ids.subList(0, random.nextInt(5)).clear();
+            for (int i = random.nextInt(5); i > 0; i--)
+            {
+                ids.add(random.nextInt(ids.size() + 1), new ResourceLocation("added_" + generation + "_" + i));
+            }
+            final Map<ResourceLocation, String> changed = new HashMap<>();
+            for (ResourceLocation id : ids)
+            {
+                if (id.getPath().startsWith("added") || random.nextInt(4) == 0)
+                {
+                    changed.put(id, id.getPath() + "_" + generation);
+                }
+            }
+
+            final List<String> expected = new ArrayList<>();
+            for (ResourceLocation id : ids)
+            {
+                expected.add(changed.containsKey(id) ? changed.get(id) : manager.getOrThrow(id));
+            }
+
+            assertTrue(manager.onSyncDelta(changed, List.copyOf(ids), generation - 1, generation));
+            assertEquals(expected, List.copyOf(manager.getValues()), "generation " + generation);
+        }
+    }
+
+    @Test
+    public void testDeltaFromOtherGenerationRequiresFullSync()
+    {
+        final DataManager<String> manager = createSynced(0, A, B);
+
+        assertFalse(manager.onSyncDelta(Map.of(C, "c"), List.of(A, B, C), 5, 6));
+        assertEquals(List.of("a", "b"), List.copyOf(manager.getValues()));
+    }
+
+    @Test
+    public void testDeltaWithUnknownIdRequiresFullSync()
+    {
+        final DataManager<String> manager = createSynced(0, A, B);
+
+        assertFalse(manager.onSyncDelta(Map.of(), List.of(A, D), 0, 1));
+        assertEquals(List.of("a", "b"), List.copyOf(manager.getValues()));
+    }
+
+    private DataManager<String> createSynced(int generation, ResourceLocation... ids)
+    {
+        final DataManager<String> manager = new DataManager<>("test", "test", (id, json) -> id.getPath());
+        final Map<ResourceLocation, String> elements = new LinkedHashMap<>();
+        for (ResourceLocation id : ids)
+        {
+            elements.put(id, id.getPath());
+        }
+
+        // The manager starts from a random generation, so sync twice in case it happened to match
+        manager.onSync(elements, generation + 1);
+        manager.onSync(elements, generation);
+        assertEquals(List.copyOf(elements.values()), List.copyOf(manager.getValues()));
+        return manager;
+    }
+}
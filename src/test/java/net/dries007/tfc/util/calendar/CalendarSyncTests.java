@@ -0,0 +1,106 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.util.calendar;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import io.netty.buffer.Unpooled;
+import net.minecraft.network.FriendlyByteBuf;
+
+import org.junit.jupiter.api.Test;
+
+import static net.dries007.tfc.TestHelper.seed;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CalendarSyncTests
+{
+    static final int TICKS = 200_000;
+
+    @Test
+    public void testClientExtrapolatesServerOverSleepsAndSkips()
+    {
+        final Random random = new Random(seed());
+        final TestServerCalendar server = new TestServerCalendar();
+        final Calendar client = new Calendar(8);
+
+        // Initial sync, as when a player logs in
+        server.arePlayersLoggedOn = true;
+        server.markChanged();
+        server.onServerTickEnd();
+
+        for (int tick = 0; tick < TICKS; tick++)
+        {
+            // Client handles any packets sent at the end of the previous server tick, then extrapolates the current tick
+            for (FriendlyByteBuf packet : server.packets)
+            {
+                final Calendar update = new Calendar(8);
+                update.read(packet);
+                client.reset(update);
+            }
+            server.packets.clear();
+            client.advancePlayerTicks();
+            client.advanceCalendarTicks();
+
+            // Server tick, with occasional state changes
+            server.onServerTick();
+            server.advanceCalendarTicks();
+
+            boolean changed = true;
+            switch (random.nextInt(2000))
+            {
+                case 0 -> server.setTimeFromDayTime(random.nextInt(ICalendar.TICKS_IN_DAY)); // Sleeping
+                case 1 -> server.setMonthLength(1 + random.nextInt(30));
+                case 2 -> {
+                    server.arePlayersLoggedOn = !server.arePlayersLoggedOn;
+                    server.markChanged();
+                }
+                case 3 -> {
+                    server.doDaylightCycle = !server.doDaylightCycle;
+                    server.markChanged();
+                }
+                default -> changed = false;
+            }
+            server.onServerTickEnd();
+
+            if (!changed)
+            {
+                // State changes can only be seen by the client on the next tick
+                assertEquals(server.getTicks(), client.getTicks(), "Player ticks at tick " + tick);
+                assertEquals(server.getCalendarTicks(), client.getCalendarTicks(), "Calendar ticks at tick " + tick);
+                assertEquals(server.getCalendarDaysInMonth(), client.getCalendarDaysInMonth(), "Days in month at tick " + tick);
+            }
+        }
+
+        // Changes happen roughly every 500 ticks, so this should be far fewer than syncing every second
+        assertTrue(server.packetsSent < TICKS / 20 / 4, "Sent " + server.packetsSent + " packets in " + TICKS + " ticks");
+    }
+
+    static class TestServerCalendar extends ServerCalendar
+    {
+        final List<FriendlyByteBuf> packets = new ArrayList<>();
+        int packetsSent;
+
+        TestServerCalendar()
+        {
+            super(8);
+        }
+
+        @Override
+        void sendUpdatePacket()
+        {
+            final FriendlyByteBuf buffer = new FriendlyByteBuf(Unpooled.buffer());
+            write(buffer);
+            packets.add(buffer);
+            packetsSent++;
+        }
+
+        @Override
+        void postSkipEvent(long playerTickJump, long calendarTickJump) {}
+    }
+}
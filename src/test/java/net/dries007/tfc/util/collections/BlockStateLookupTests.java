@@ -0,0 +1,114 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.util.collections;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import javax.annotation.Nullable;
+
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.state.BlockState;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static net.dries007.tfc.TestHelper.boostrap;
+import static net.dries007.tfc.TestHelper.seed;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BlockStateLookupTests
+{
+    static final Block[] BLOCKS = {Blocks.STONE, Blocks.DIRT, Blocks.FARMLAND, Blocks.WHEAT, Blocks.OAK_STAIRS, Blocks.OAK_SLAB, Blocks.SNOW};
+
+    @BeforeAll
+    public static void setup()
+    {
+        boostrap();
+    }
+
+    @Test
+    public void testEmptyLookupHasNoResults()
+    {
+        final BlockStateLookup<TestRecipe> lookup = new BlockStateLookup<>(TestRecipe::blocks, TestRecipe::matches);
+        assertNull(lookup.get(Blocks.STONE.defaultBlockState()));
+
+        lookup.reload(List.of());
+        assertNull(lookup.get(Blocks.STONE.defaultBlockState()));
+    }
+
+    @Test
+    public void testReloadReplacesResults()
+    {
+        final TestRecipe stone = new TestRecipe(List.of(Blocks.STONE), 1);
+        final TestRecipe dirt = new TestRecipe(List.of(Blocks.DIRT), 1);
+        final BlockStateLookup<TestRecipe> lookup = new BlockStateLookup<>(TestRecipe::blocks, TestRecipe::matches);
+
+        lookup.reload(List.of(stone));
+        assertSame(stone, lookup.get(Blocks.STONE.defaultBlockState()));
+        assertNull(lookup.get(Blocks.DIRT.defaultBlockState()));
+
+        lookup.reload(List.of(dirt));
+        assertNull(lookup.get(Blocks.STONE.defaultBlockState()));
+        assertSame(dirt, lookup.get(Blocks.DIRT.defaultBlockState()));
+    }
+
+    @Test
+    public void testMatchesIndirectLookupForEveryState()
+    {
+        final Random random = new Random(seed());
+        for (int trial = 0; trial < 100; trial++)
+        {
+            final List<TestRecipe> recipes = new ArrayList<>();
+            for (int i = 0; i < 8; i++)
+            {
+                recipes.add(new TestRecipe(List.of(BLOCKS[random.nextInt(BLOCKS.length)], BLOCKS[random.nextInt(BLOCKS.length)]), 1 + random.nextInt(3)));
+            }
+
+            final IndirectHashCollection<Block, TestRecipe> expected = new IndirectHashCollection<>(TestRecipe::blocks);
+            final BlockStateLookup<TestRecipe> actual = new BlockStateLookup<>(TestRecipe::blocks, TestRecipe::matches);
+            expected.reload(recipes);
+            actual.reload(recipes);
+
+            for (Block block : BLOCKS)
+            {
+                for (BlockState state : block.getStateDefinition().getPossibleStates())
+                {
+                    assertSame(getFirst(expected, state), actual.get(state), "trial " + trial + ", state " + state);
+                }
+            }
+        }
+    }
+
+    /**
+     * The lookup as done by recipes, before {@link BlockStateLookup}
+     */
+    @Nullable
+    private TestRecipe getFirst(IndirectHashCollection<Block, TestRecipe> cache, BlockState state)
+    {
+        for (TestRecipe recipe : cache.getAll(state.getBlock()))
+        {
+            if (recipe.matches(state))
+            {
+                return recipe;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * A recipe which matches only some states of its blocks, like a recipe with a state sensitive ingredient.
+     */
+    record TestRecipe(List<Block> blocks, int modulus)
+    {
+        boolean matches(BlockState state)
+        {
+            return blocks.contains(state.getBlock()) && Block.getId(state) % modulus == 0;
+        }
+    }
+}
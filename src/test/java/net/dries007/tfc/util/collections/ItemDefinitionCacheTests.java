@@ -0,0 +1,112 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.util.collections;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import net.minecraft.world.item.crafting.Ingredient;
+
+import net.dries007.tfc.util.Helpers;
+import net.dries007.tfc.util.ItemDefinition;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static net.dries007.tfc.TestHelper.boostrap;
+import static net.dries007.tfc.TestHelper.seed;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ItemDefinitionCacheTests
+{
+    static final Item[] ITEMS = {Items.APPLE, Items.BREAD, Items.STICK, Items.STONE, Items.IRON_INGOT, Items.COD};
+
+    @BeforeAll
+    public static void setup()
+    {
+        boostrap();
+    }
+
+    @Test
+    public void testUnconditionalDefinitionIsFound()
+    {
+        final TestDefinition apple = new TestDefinition(0, Ingredient.of(Items.APPLE), false);
+        final ItemDefinitionCache<TestDefinition> cache = new ItemDefinitionCache<>();
+        cache.reload(List.of(apple));
+
+        assertSame(apple, cache.get(new ItemStack(Items.APPLE)));
+        assertNull(cache.get(new ItemStack(Items.BREAD)));
+    }
+
+    @Test
+    public void testConditionalDefinitionsAreTestedBeforeUnconditional()
+    {
+        final TestDefinition damaged = new TestDefinition(0, Ingredient.of(Items.APPLE), true);
+        final TestDefinition apple = new TestDefinition(1, Ingredient.of(Items.APPLE), false);
+        final ItemDefinitionCache<TestDefinition> cache = new ItemDefinitionCache<>();
+        cache.reload(List.of(damaged, apple));
+
+        final ItemStack stack = new ItemStack(Items.APPLE);
+        assertSame(apple, cache.get(stack));
+
+        stack.setDamageValue(1);
+        assertSame(damaged, cache.get(stack));
+    }
+
+    @Test
+    public void testMatchesFirstDefinitionInOrder()
+    {
+        final Random random = new Random(seed());
+        for (int trial = 0; trial < 100; trial++)
+        {
+            final List<TestDefinition> definitions = new ArrayList<>();
+            for (int i = 0; i < 10; i++)
+            {
+                definitions.add(new TestDefinition(i, Ingredient.of(ITEMS[random.nextInt(ITEMS.length)], ITEMS[random.nextInt(ITEMS.length)]), random.nextBoolean()));
+            }
+
+            final ItemDefinitionCache<TestDefinition> cache = new ItemDefinitionCache<>();
+            cache.reload(definitions);
+
+            for (Item item : ITEMS)
+            {
+                for (int damage = 0; damage <= 1; damage++)
+                {
+                    final ItemStack stack = new ItemStack(item);
+                    stack.setDamageValue(damage);
+                    assertSame(definitions.stream().filter(def -> def.matches(stack)).findFirst().orElse(null), cache.get(stack));
+                }
+            }
+        }
+    }
+
+    static class TestDefinition extends ItemDefinition
+    {
+        final boolean requiresDamage;
+
+        TestDefinition(int index, Ingredient ingredient, boolean requiresDamage)
+        {
+            super(Helpers.identifier("test_" + index), ingredient);
+            this.requiresDamage = requiresDamage;
+        }
+
+        @Override
+        public boolean matches(ItemStack stack)
+        {
+            return super.matches(stack) && (!requiresDamage || stack.getDamageValue() > 0);
+        }
+
+        @Override
+        public boolean isUnconditional()
+        {
+            return !requiresDamage && super.isUnconditional();
+        }
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.util.tracker;
+
+import net.minecraft.core.BlockPos;
+
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongList;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class WorldTrackerTests
+{
+    static final int BUDGET = 16;
+
+    @Test
+    public void testFruitTreeGrowthStopsAtBudget()
+    {
+        final WorldTracker tracker = trackerWith(40);
+        final LongList grown = new LongArrayList();
+
+        tracker.updateFruitTreeGrowth(BUDGET, packed -> true, grown::add);
+
+        assertEquals(BUDGET, grown.size());
+        for (int i = 0; i < BUDGET; i++)
+        {
+            assertEquals(pos(i), grown.getLong(i), "Branches should grow in the order they were queued");
+        }
+
+        // The remainder grows over the following ticks
+        tracker.updateFruitTreeGrowth(BUDGET, packed -> true, grown::add);
+        tracker.updateFruitTreeGrowth(BUDGET, packed -> true, grown::add);
+        assertEquals(40, grown.size());
+        assertEquals(pos(39), grown.getLong(39));
+    }
+
+    @Test
+    public void testFruitTreeGrowthDropsUnloadedPositions()
+    {
+        final WorldTracker tracker = trackerWith(40);
+        final LongSet loaded = new LongOpenHashSet();
+        for (int i = 0; i < 40; i += 2)
+        {
+            loaded.add(pos(i));
+        }
+        final LongList grown = new LongArrayList();
+
+        // Unloaded positions count against the budget, so an unloaded queue is not drained all at once
+        tracker.updateFruitTreeGrowth(4, loaded::contains, grown::add);
+        assertEquals(LongArrayList.wrap(new long[] {pos(0), pos(2)}), grown);
+
+        // Once loaded, the dropped positions are not grown by the tracker, they grow via random ticks
+        for (int i = 0; i < 40; i++)
+        {
+            loaded.add(pos(i));
+        }
+        tracker.updateFruitTreeGrowth(100, loaded::contains, grown::add);
+        assertEquals(38, grown.size());
+        assertFalse(grown.contains(pos(1)));
+        assertFalse(grown.contains(pos(3)));
+    }
+
+    @Test
+    public void testFruitTreeGrowsWholeTreeWithBoundedWorkPerTick()
+    {
+        // A model of GrowingFruitTreeBranchBlock#growFromElapsedTime: growing a branch with n cycles left places up to two new branches with n - 1 cycles, which are queued to grow if they have cycles left.
+        final WorldTracker tracker = new WorldTracker();
+        final Long2IntMap cycles = new Long2IntOpenHashMap();
+        final LongSet grown = new LongOpenHashSet();
+        final int depth = 8;
+
+        cycles.put(pos(0), depth);
+        tracker.addFruitTreeGrowth(BlockPos.of(pos(0)));
+
+        int ticks = 0;
+        while (grown.size() < (1 << depth) - 1)
+        {
+            final int before = grown.size();
+            tracker.updateFruitTreeGrowth(BUDGET, packed -> true, packed -> {
+                assertTrue(grown.add(packed), "Branch grew twice");
+                final int index = BlockPos.getX(packed), cyclesLeft = cycles.get(packed) - 1;
+                if (cyclesLeft > 0)
+                {
+                    for (long child : new long[] {pos(2 * index + 1), pos(2 * index + 2)})
+                    {
+                        cycles.put(child, cyclesLeft);
+                        tracker.addFruitTreeGrowth(BlockPos.of(child));
+                    }
+                }
+            });
+
+            ticks++;
+            assertTrue(grown.size() - before <= BUDGET, "Grew " + (grown.size() - before) + " branches in one tick, with a budget of " + BUDGET);
+            assertTrue(grown.size() > before, "Stopped growing after " + grown.size() + " branches");
+        }
+
+        assertEquals((1 << depth) - 1, grown.size());
+        assertTrue(ticks >= ((1 << depth) - 1) / BUDGET, "Grew the whole tree in " + ticks + " ticks");
+
+        // Nothing is left queued
+        tracker.updateFruitTreeGrowth(BUDGET, packed -> true, packed -> fail("Unexpected growth at " + BlockPos.of(packed)));
+    }
+
+    private WorldTracker trackerWith(int count)
+    {
+        final WorldTracker tracker = new WorldTracker();
+        for (int i = 0; i < count; i++)
+        {
+            tracker.addFruitTreeGrowth(BlockPos.of(pos(i)));
+        }
+        return tracker;
+    }
+
+    private long pos(int i)
+    {
+        return BlockPos.asLong(i, 64, 0);
+    }
+}
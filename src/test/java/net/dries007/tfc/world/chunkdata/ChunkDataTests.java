@@ -0,0 +1,255 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.world.chunkdata;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.*;
+
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.NbtIo;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.block.Blocks;
+
+import io.netty.buffer.Unpooled;
+import net.dries007.tfc.util.Helpers;
+import net.dries007.tfc.util.climate.ClimateModel;
+import net.dries007.tfc.world.settings.RockLayerSettings;
+import net.dries007.tfc.world.settings.RockSettings;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static net.dries007.tfc.TestHelper.boostrap;
+import static net.dries007.tfc.TestHelper.seed;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ChunkDataTests
+{
+    static RockLayerSettings settings;
+
+    @BeforeAll
+    public static void setup()
+    {
+        boostrap();
+
+        final Map<ResourceLocation, RockSettings> map = new HashMap<>();
+        for (int i = 0; i < 40; i++)
+        {
+            final ResourceLocation id = Helpers.identifier("rock_" + i);
+            map.put(id, new RockSettings(id, Blocks.STONE, Blocks.STONE, Blocks.STONE, Blocks.STONE, Blocks.STONE, Blocks.STONE, Optional.empty(), Optional.empty(), true, true, true));
+        }
+        settings = new RockLayerSettings(map, 1);
+    }
+
+    @Test
+    public void testCompactRoundTripSmallPalette()
+    {
+        final Random random = new Random(seed());
+        for (int i = 0; i < 100; i++)
+        {
+            assertRoundTrip(createRandomData(random, 6).data());
+        }
+    }
+
+    @Test
+    public void testCompactRoundTripLargePalette()
+    {
+        final Random random = new Random(seed());
+        for (int i = 0; i < 100; i++)
+        {
+            assertRoundTrip(createRandomData(random, 40).data());
+        }
+    }
+
+    @Test
+    public void testLegacyMigration()
+    {
+        final Random random = new Random(seed());
+        for (int i = 0; i < 100; i++)
+        {
+            final RandomChunk expected = createRandomData(random, 6);
+            final ChunkData actual = new ChunkData(expected.data().getPos(), settings);
+            actual.deserializeNBT(writeLegacyNBT(expected));
+
+            assertChunkDataEquals(expected.data(), actual, false);
+        }
+    }
+
+    @Test
+    public void testUnknownVersionIsRegenerated()
+    {
+        final ChunkData expected = createRandomData(new Random(seed()), 6).data();
+        final CompoundTag nbt = expected.serializeNBT();
+        nbt.putByte("version", (byte) 99);
+
+        final ChunkData actual = new ChunkData(expected.getPos(), settings);
+        actual.deserializeNBT(nbt);
+
+        assertEquals(ChunkData.Status.EMPTY, actual.getStatus());
+        assertEquals(PlateTectonicsClassification.OCEANIC, actual.getPlateTectonicsInfo());
+        assertEquals(ForestType.NONE, actual.getForestType());
+    }
+
+    @Test
+    public void testCompactFormatIsSmaller() throws IOException
+    {
+        final Random random = new Random(seed());
+        int legacySize = 0, compactSize = 0;
+        for (int i = 0; i < 1000; i++)
+        {
+            final RandomChunk chunk = createRandomData(random, 6);
+            legacySize += sizeOf(writeLegacyNBT(chunk));
+            compactSize += sizeOf(chunk.data().serializeNBT());
+        }
+
+        assertTrue(compactSize < legacySize / 2, "Compact format should be less than half the size of the legacy format, but was " + compactSize + " bytes vs. " + legacySize + " bytes");
+    }
+
+    private void assertRoundTrip(ChunkData expected)
+    {
+        final ChunkData actual = new ChunkData(expected.getPos(), settings);
+        actual.deserializeNBT(expected.serializeNBT());
+
+        assertChunkDataEquals(expected, actual, true);
+    }
+
+    private void assertChunkDataEquals(ChunkData expected, ChunkData actual, boolean quantized)
+    {
+        // Allow for float error in the interpolation, on top of the quantization error
+        final float rainfallTolerance = quantized ? ChunkDataEncoding.quantizationError(ClimateModel.MINIMUM_RAINFALL, ClimateModel.MAXIMUM_RAINFALL) + 1e-3f : 0;
+        final float temperatureTolerance = quantized ? ChunkDataEncoding.quantizationError(-64, 64) + 1e-3f : 0;
+
+        assertEquals(expected.getStatus(), actual.getStatus());
+        assertEquals(expected.getPlateTectonicsInfo(), actual.getPlateTectonicsInfo());
+        assertEquals(expected.getForestType(), actual.getForestType());
+        assertEquals(expected.getForestDensity(), actual.getForestDensity());
+        assertEquals(expected.getForestWeirdness(), actual.getForestWeirdness());
+        assertEquals(expected.getLastClimateUpdateTick(), actual.getLastClimateUpdateTick());
+        assertArrayEquals(expected.getAquiferSurfaceHeight(), actual.getAquiferSurfaceHeight());
+
+        for (int x = 0; x < 16; x++)
+        {
+            for (int z = 0; z < 16; z++)
+            {
+                assertEquals(expected.getRainfall(x, z), actual.getRainfall(x, z), rainfallTolerance);
+                assertEquals(expected.getAverageTemp(x, z), actual.getAverageTemp(x, z), temperatureTolerance);
+                assertSame(expected.getRockData().getBottomRock(x, z), actual.getRockData().getBottomRock(x, z));
+                for (int y = -64; y < 320; y += 8)
+                {
+                    assertSame(expected.getRockData().getRock(x, y, z), actual.getRockData().getRock(x, y, z));
+                }
+            }
+        }
+    }
+
+    private RandomChunk createRandomData(Random random, int rocksPerChunk)
+    {
+        final List<RockSettings> rocks = new ArrayList<>(settings.getRocks());
+        Collections.shuffle(rocks, random);
+
+        final RockSettings[] bottomLayer = new RockSettings[256], middleLayer = new RockSettings[256], topLayer = new RockSettings[256];
+        final int[] rockLayerHeight = new int[256], surfaceHeight = new int[256];
+        for (int i = 0; i < 256; i++)
+        {
+            bottomLayer[i] = rocks.get(random.nextInt(rocksPerChunk));
+            middleLayer[i] = rocks.get(random.nextInt(rocksPerChunk));
+            topLayer[i] = rocks.get(random.nextInt(rocksPerChunk));
+            rockLayerHeight[i] = random.nextInt(21) - 10;
+            surfaceHeight[i] = random.nextInt(300) - 20;
+        }
+
+        final int[] aquiferSurfaceHeight = new int[16];
+        for (int i = 0; i < aquiferSurfaceHeight.length; i++)
+        {
+            aquiferSurfaceHeight[i] = random.nextInt(200) - 64;
+        }
+
+        final RockData rockData = new RockData(bottomLayer, middleLayer, topLayer, rockLayerHeight);
+        rockData.setSurfaceHeight(surfaceHeight);
+
+        final LerpFloatLayer rainfall = new LerpFloatLayer(random.nextFloat() * 500, random.nextFloat() * 500, random.nextFloat() * 500, random.nextFloat() * 500);
+        final LerpFloatLayer temperature = new LerpFloatLayer(random.nextFloat() * 54 - 22, random.nextFloat() * 54 - 22, random.nextFloat() * 54 - 22, random.nextFloat() * 54 - 22);
+
+        final ChunkData data = new ChunkData(new ChunkPos(random.nextInt(10000), random.nextInt(10000)), settings);
+        data.setStatus(ChunkData.Status.FULL);
+        data.setRockData(rockData);
+        data.setRainfall(rainfall);
+        data.setAverageTemp(temperature);
+        data.setAquiferSurfaceHeight(aquiferSurfaceHeight);
+        data.setFloraData(ForestType.valueOf(random.nextInt(5)), random.nextFloat(), random.nextFloat());
+        data.setPlateTectonicsInfo(PlateTectonicsClassification.valueOf(random.nextInt(10)));
+        data.setLastClimateUpdateTick(random.nextLong() & Long.MAX_VALUE);
+        return new RandomChunk(data, rainfall, temperature, bottomLayer, middleLayer, topLayer, rockLayerHeight, surfaceHeight);
+    }
+
+    /**
+     * Writes chunk data in the NBT format used before the compact format was introduced.
+     */
+    private CompoundTag writeLegacyNBT(RandomChunk chunk)
+    {
+        final ChunkData data = chunk.data();
+        final CompoundTag nbt = new CompoundTag();
+        nbt.putByte("status", (byte) data.getStatus().ordinal());
+        nbt.putByte("plateTectonicsInfo", (byte) data.getPlateTectonicsInfo().ordinal());
+        nbt.put("rainfall", writeLegacyLayer(chunk.rainfall()));
+        nbt.put("temperature", writeLegacyLayer(chunk.temperature()));
+        nbt.putByte("forestType", (byte) data.getForestType().ordinal());
+        nbt.putFloat("forestWeirdness", data.getForestWeirdness());
+        nbt.putFloat("forestDensity", data.getForestDensity());
+        nbt.putIntArray("aquiferSurfaceHeight", data.getAquiferSurfaceHeight());
+        nbt.putLong("lastClimateUpdateTick", data.getLastClimateUpdateTick());
+
+        final CompoundTag rockNbt = new CompoundTag();
+        rockNbt.putIntArray("bottomLayer", writeLegacyRocks(chunk.bottomLayer()));
+        rockNbt.putIntArray("middleLayer", writeLegacyRocks(chunk.middleLayer()));
+        rockNbt.putIntArray("topLayer", writeLegacyRocks(chunk.topLayer()));
+        rockNbt.putIntArray("height", chunk.rockLayerHeight());
+        rockNbt.putIntArray("surfaceHeight", chunk.surfaceHeight());
+        nbt.put("rockData", rockNbt);
+        return nbt;
+    }
+
+    private CompoundTag writeLegacyLayer(LerpFloatLayer layer)
+    {
+        // The network encoding writes the corners in the order NW, NE, SW, SE
+        final FriendlyByteBuf buffer = new FriendlyByteBuf(Unpooled.buffer());
+        layer.encode(buffer);
+
+        final CompoundTag nbt = new CompoundTag();
+        nbt.putFloat("nw", buffer.readFloat());
+        nbt.putFloat("ne", buffer.readFloat());
+        nbt.putFloat("sw", buffer.readFloat());
+        nbt.putFloat("se", buffer.readFloat());
+        buffer.release();
+        return nbt;
+    }
+
+    private int[] writeLegacyRocks(RockSettings[] layer)
+    {
+        final int[] array = new int[layer.length];
+        for (int i = 0; i < layer.length; i++)
+        {
+            array[i] = settings.getRocks().indexOf(layer[i]);
+        }
+        return array;
+    }
+
+    private int sizeOf(CompoundTag tag) throws IOException
+    {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        NbtIo.write(tag, new DataOutputStream(bytes));
+        return bytes.size();
+    }
+
+    /**
+     * Random chunk data, along with the values it was created from, which are needed to write the legacy format.
+     */
+    record RandomChunk(ChunkData data, LerpFloatLayer rainfall, LerpFloatLayer temperature, RockSettings[] bottomLayer, RockSettings[] middleLayer, RockSettings[] topLayer, int[] rockLayerHeight, int[] surfaceHeight) {}
+}
@@ -0,0 +1,75 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.world.placement;
+
+import java.util.Random;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.ChunkPos;
+
+import net.dries007.tfc.world.chunkdata.ChunkData;
+import net.dries007.tfc.world.chunkdata.ForestType;
+import net.dries007.tfc.world.chunkdata.LerpFloatLayer;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static net.dries007.tfc.TestHelper.boostrap;
+import static net.dries007.tfc.TestHelper.seed;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ClimatePlacementTests
+{
+    static final ForestType[] FORESTS = ForestType.values();
+
+    @BeforeAll
+    public static void setup()
+    {
+        boostrap();
+    }
+
+    @Test
+    public void testIsValidMatchesPerPositionCheck()
+    {
+        final Random random = new Random(seed());
+        for (int trial = 0; trial < 2000; trial++)
+        {
+            final ChunkData data = ChunkData.createClient(new ChunkPos(0, 0));
+            final float temperature = -30 + 60 * random.nextFloat(), rainfall = 500 * random.nextFloat();
+            data.setAverageTemp(new LerpFloatLayer(temperature, temperature + 4 * random.nextFloat(), temperature - 4 * random.nextFloat(), temperature + random.nextFloat()));
+            data.setRainfall(new LerpFloatLayer(rainfall, rainfall + 40 * random.nextFloat(), rainfall - 40 * random.nextFloat(), rainfall));
+            data.setFloraData(FORESTS[random.nextInt(FORESTS.length)], 0, 0);
+
+            // Bounds near the chunk's values, including exactly on a corner
+            final float minTemp = random.nextBoolean() ? temperature : temperature - 5 + 10 * random.nextFloat();
+            final float minRainfall = random.nextBoolean() ? rainfall : rainfall - 50 + 100 * random.nextFloat();
+            final ForestType minForest = FORESTS[random.nextInt(FORESTS.length)];
+            final ForestType maxForest = FORESTS[minForest.ordinal() + random.nextInt(FORESTS.length - minForest.ordinal())];
+            final float maxTemp = minTemp + 10 * random.nextFloat(), maxRainfall = minRainfall + 100 * random.nextFloat();
+            final ClimatePlacement placement = new ClimatePlacement(minTemp, maxTemp, minRainfall, maxRainfall, minForest, maxForest, false);
+
+            for (int x = 0; x < 16; x++)
+            {
+                for (int z = 0; z < 16; z++)
+                {
+                    final BlockPos pos = new BlockPos(x, 0, z);
+                    assertEquals(legacyIsValid(data, pos, minTemp, maxTemp, minRainfall, maxRainfall, minForest, maxForest), placement.isValid(data, pos, random), "trial " + trial + " at " + x + ", " + z);
+                }
+            }
+        }
+    }
+
+    /**
+     * The non-fuzzy check, as done before chunk ranges were considered
+     */
+    private boolean legacyIsValid(ChunkData data, BlockPos pos, float minTemp, float maxTemp, float minRainfall, float maxRainfall, ForestType minForest, ForestType maxForest)
+    {
+        final float temperature = data.getAverageTemp(pos);
+        final float rainfall = data.getRainfall(pos);
+        final ForestType forestType = data.getForestType();
+        return minTemp <= temperature && temperature <= maxTemp && minRainfall <= rainfall && rainfall <= maxRainfall && minForest.ordinal() <= forestType.ordinal() && forestType.ordinal() <= maxForest.ordinal();
+    }
+}